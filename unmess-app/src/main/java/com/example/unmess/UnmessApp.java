@@ -0,0 +1,1037 @@
+package com.example.unmess;
+
+import com.example.unmess.core.Logger;
+import com.example.unmess.core.ValidationException;
+import com.example.unmess.engine.ColorLut3D;
+import com.example.unmess.engine.DirtyRegion;
+import com.example.unmess.engine.EditResult;
+import com.example.unmess.engine.FloatRaster;
+import com.example.unmess.engine.Histogram;
+import com.example.unmess.engine.ImageProcessorV2;
+import com.example.unmess.engine.OperationReplayer;
+import com.example.unmess.engine.Raster;
+import com.example.unmess.engine.RasterPool;
+import com.example.unmess.engine.ToneCurve;
+import com.example.unmess.fx.DeepImageIO;
+import com.example.unmess.fx.FxImageAdapter;
+import com.example.unmess.fx.FxStallWatchdog;
+import com.example.unmess.fx.PixelBufferDisplay;
+import com.example.unmess.model.EditJournal;
+import com.example.unmess.model.HistoryManager;
+import com.example.unmess.model.ImageState;
+import com.example.unmess.model.Operation;
+import com.example.unmess.ui.*;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.control.*;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.*;
+import javafx.stage.FileChooser;
+import javafx.stage.Stage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+// Unmess - Professional Photo Editor with Photoshop-grade controls
+public class UnmessApp extends Application {
+    
+    private ImageView imageView;
+    private PixelBufferDisplay display;
+    private ImageState imageState;
+    private HistoryManager historyManager;
+    private EditJournal journal;
+    // Net edits recorded since the journal started; an undo past its start cannot be journaled
+    private int journalDepth;
+    private Label statusLabel;
+    private ScrollPane scrollPane;
+    
+    // UI Panels
+    private ToolsPanel toolsPanel;
+    private TopToolBar topToolBar;
+    private RightPanel rightPanel;
+    private FxStallWatchdog stallWatchdog;
+    
+    // Float preview planes, reused across frames; only touched on the preview renderer thread
+    private FloatRaster floatScratch;
+    
+    private double currentZoom = 1.0;
+    
+    @Override
+    public void start(Stage primaryStage) {
+        Logger.info("Starting Unmess Professional Photo Editor");
+        primaryStage.setTitle("Unmess");
+        primaryStage.setMinWidth(1200);
+        primaryStage.setMinHeight(800);
+        
+        historyManager = new HistoryManager();
+        
+        // Report any UI action that blocks the FX thread
+        stallWatchdog = new FxStallWatchdog();
+        stallWatchdog.start();
+        
+        BorderPane root = new BorderPane();
+        
+        // Top: Modern menu bar + Top toolbar
+        VBox topContainer = new VBox(0);
+        ModernMenuBar modernMenuBar = new ModernMenuBar(primaryStage);
+        modernMenuBar.setActionHandler(action -> runTracked("menu:" + action, () -> handleMenuAction(action)));
+        topToolBar = new TopToolBar();
+        topToolBar.setActionHandler(action -> runTracked("toolbar:" + action, () -> handleToolbarAction(action)));
+        topContainer.getChildren().addAll(modernMenuBar, topToolBar);
+        root.setTop(topContainer);
+        
+        // Left: Vertical tools panel
+        toolsPanel = new ToolsPanel();
+        root.setLeft(toolsPanel);
+        
+        // Center: Image canvas
+        root.setCenter(createImageCanvas());
+        
+        // Right: Tabbed panel with adjustments, layers, history, properties
+        rightPanel = new RightPanel();
+        rightPanel.getAdjustmentsPanel().setOnAdjustmentChanged(v -> runTracked("adjustments", this::applyAdjustments));
+        display.setOnHistogram(rightPanel.getHistogramPanel()::setHistogram);
+        root.setRight(rightPanel);
+        
+        // Bottom: Status bar
+        root.setBottom(createStatusBar());
+        
+        Scene scene = new Scene(root, 1600, 1000);
+        scene.getStylesheets().add(getClass().getResource("styles.css").toExternalForm());
+        
+        primaryStage.setScene(scene);
+        primaryStage.show();
+        
+        Logger.info("Unmess UI initialized successfully");
+        
+        // Offer to rebuild the previous session if it did not shut down cleanly
+        Platform.runLater(() -> runTracked("recovery", this::recoverUncleanSession));
+    }
+    
+    @Override
+    public void stop() {
+        stallWatchdog.stop();
+        display.dispose();
+        closeJournal();
+        Logger.info("Unmess shut down cleanly");
+    }
+    
+    // Run a UI action on the FX thread, attributing any stall to it
+    private void runTracked(String action, Runnable body) {
+        stallWatchdog.beginAction(action);
+        try {
+            body.run();
+        } finally {
+            stallWatchdog.endAction();
+        }
+    }
+    
+    // Handle menu actions
+    private void handleMenuAction(String action) {
+        Stage stage = (Stage) topToolBar.getScene().getWindow();
+        handleToolbarAction(action);
+    }
+    
+    // Handle toolbar actions
+    private void handleToolbarAction(String action) {
+        Stage stage = (Stage) topToolBar.getScene().getWindow();
+        
+        switch (action) {
+            case "new":
+                // New image dialog
+                break;
+            case "open":
+                openImage(stage);
+                break;
+            case "save":
+                saveImage(stage);
+                break;
+            case "undo":
+                undo();
+                break;
+            case "redo":
+                redo();
+                break;
+            case "cut":
+            case "copy":
+            case "paste":
+                // Implement clipboard operations
+                updateStatus("Clipboard operation: " + action);
+                break;
+            case "zoomIn":
+                zoomIn();
+                break;
+            case "zoomOut":
+                zoomOut();
+                break;
+            case "fit":
+                fitToScreen();
+                break;
+            case "grayscale":
+            case "sepia":
+            case "invert":
+            case "noiseReduction":
+            case "despeckle":
+                applyFilter(action);
+                break;
+            case "autoTone":
+            case "autoContrast":
+            case "autoColor":
+                applyAuto(action);
+                break;
+            case "applyLut":
+                applyLut(stage);
+                break;
+            case "resize":
+                resizeImage(stage);
+                break;
+            case "rotate":
+                rotateImage(stage);
+                break;
+            case "crop":
+                cropImage(stage);
+                break;
+            case "brush":
+            case "text":
+                // Tool selection
+                updateStatus("Tool selected: " + action);
+                break;
+        }
+    }
+    
+    // Handle context menu actions
+    private void handleContextMenuAction(String action) {
+        Logger.info("Context menu action: " + action);
+        
+        switch (action) {
+            case "cut":
+            case "copy":
+            case "paste":
+            case "duplicate":
+                updateStatus("Clipboard: " + action);
+                break;
+            case "rotateCW":
+                applyTransform("rotateCW");
+                break;
+            case "rotateCCW":
+                applyTransform("rotateCCW");
+                break;
+            case "flipH":
+                applyTransform("flipH");
+                break;
+            case "flipV":
+                applyTransform("flipV");
+                break;
+            case "grayscale":
+            case "sepia":
+            case "invert":
+                applyFilter(action);
+                break;
+            case "zoomIn":
+                zoomIn();
+                break;
+            case "zoomOut":
+                zoomOut();
+                break;
+            case "fit":
+                fitToScreen();
+                break;
+            case "actualSize":
+                actualSize();
+                break;
+            case "selectAll":
+            case "deselect":
+                updateStatus("Selection: " + action);
+                break;
+            default:
+                if (action.startsWith("blendMode:")) {
+                    String mode = action.substring(10);
+                    updateStatus("Blend mode: " + mode);
+                } else {
+                    updateStatus("Action: " + action);
+                }
+                break;
+        }
+    }
+    
+    // Create image canvas with zoom controls
+    private BorderPane createImageCanvas() {
+        BorderPane canvas = new BorderPane();
+        canvas.setStyle("-fx-background-color: #fafafa;");
+        
+        imageView = new ImageView();
+        imageView.setPreserveRatio(true);
+        imageView.setSmooth(true);
+        // No node cache: it would re-rasterize the whole view on every partial texture update
+        imageView.setCache(false);
+        
+        display = new PixelBufferDisplay(imageView);
+        display.setOnRenderError(this::handleRenderError);
+        
+        StackPane imageContainer = new StackPane(imageView);
+        imageContainer.getStyleClass().add("image-container");
+        imageContainer.setAlignment(Pos.CENTER);
+        imageContainer.setMinSize(600, 600);
+        
+        // Add context menu to image container
+        ContextMenu imageContextMenu = ContextMenuFactory.createImageContextMenu(
+            action -> runTracked("context:" + action, () -> handleContextMenuAction(action)));
+        imageContainer.setOnContextMenuRequested(e -> 
+            imageContextMenu.show(imageContainer, e.getScreenX(), e.getScreenY())
+        );
+        
+        scrollPane = new ScrollPane(imageContainer);
+        scrollPane.setFitToWidth(true);
+        scrollPane.setFitToHeight(true);
+        scrollPane.setPannable(true);
+        scrollPane.setHbarPolicy(ScrollPane.ScrollBarPolicy.AS_NEEDED);
+        scrollPane.setVbarPolicy(ScrollPane.ScrollBarPolicy.AS_NEEDED);
+        
+        canvas.setCenter(scrollPane);
+        return canvas;
+    }
+    
+    // Create status bar
+    private HBox createStatusBar() {
+        HBox statusBar = new HBox(20);
+        statusBar.setPadding(new Insets(6, 10, 6, 10));
+        statusBar.setAlignment(Pos.CENTER_LEFT);
+        statusBar.getStyleClass().add("status-bar");
+        
+        statusLabel = new Label("Ready");
+        
+        Region spacer = new Region();
+        HBox.setHgrow(spacer, Priority.ALWAYS);
+        
+        Label zoomLabel = new Label("100%");
+        zoomLabel.setStyle("-fx-text-fill: #ffffff; -fx-font-family: monospace; -fx-font-weight: bold;");
+        
+        Label toolLabel = new Label("Tool: Move");
+        toolLabel.setStyle("-fx-text-fill: #ffffff;");
+        
+        statusBar.getChildren().addAll(statusLabel, spacer, toolLabel, new Separator(javafx.geometry.Orientation.VERTICAL), zoomLabel);
+        return statusBar;
+    }
+    
+    // Image operations
+    private void openImage(Stage stage) {
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Open Image - Unmess");
+        fileChooser.getExtensionFilters().addAll(
+            new FileChooser.ExtensionFilter("All Images", "*.png", "*.jpg", "*.jpeg", "*.gif", "*.bmp", "*.tif", "*.tiff"),
+            new FileChooser.ExtensionFilter("PNG Images", "*.png"),
+            new FileChooser.ExtensionFilter("JPEG Images", "*.jpg", "*.jpeg"),
+            new FileChooser.ExtensionFilter("TIFF Images", "*.tif", "*.tiff"),
+            new FileChooser.ExtensionFilter("All Files", "*.*")
+        );
+        
+        File file = fileChooser.showOpenDialog(stage);
+        if (file != null) {
+            try {
+                imageState = loadState(file);
+                historyManager.clear();
+                // Buffers sized for the previous image are no longer useful
+                RasterPool.clear();
+                int width = imageState.getCurrentImage().getWidth();
+                int height = imageState.getCurrentImage().getHeight();
+                startJournal(file.getAbsolutePath(), width, height);
+                display.show(imageState.getCurrentImage());
+                rightPanel.getAdjustmentsPanel().resetAll();
+                fitToScreen();
+                updateStatus("Loaded: " + file.getName() + " (" + width + "x" + height + " px"
+                    + (imageState.getHighPrecisionOriginal() != null ? ", 16-bit" : "") + ")");
+                Logger.info("Image loaded: " + file.getAbsolutePath());
+            } catch (ValidationException e) {
+                showError("Validation failed: " + e.getMessage());
+                Logger.error("Image validation failed", e);
+            } catch (Exception e) {
+                showError("Failed to load image: " + e.getMessage());
+                Logger.error("Failed to load image", e);
+            }
+        }
+    }
+    
+    // Decode a source image; 16-bit PNG and TIFF files also keep their full-depth pixels
+    private ImageState loadState(File file) throws IOException, ValidationException {
+        if (DeepImageIO.supports(getFileExtension(file))) {
+            DeepImageIO.Decoded decoded = DeepImageIO.read(file);
+            if (decoded != null && !decoded.isDeep()) {
+                return ImageState.fromImage(decoded.getPixels(), file.getAbsolutePath());
+            }
+            if (decoded != null) {
+                Raster image = decoded.getDeepPixels().toRaster();
+                try {
+                    return ImageState.fromImage(image, decoded.getDeepPixels(), file.getAbsolutePath());
+                } finally {
+                    RasterPool.release(image);
+                }
+            }
+        }
+        Image image = new Image(file.toURI().toString());
+        if (image.isError()) {
+            throw new IOException("Image is not readable: " + file);
+        }
+        return ImageState.fromImage(FxImageAdapter.toRaster(image), file.getAbsolutePath());
+    }
+    
+    private void saveImage(Stage stage) {
+        if (imageState == null) {
+            showError("No image to save");
+            return;
+        }
+        
+        // Committed edits run on the 8-bit image, so only an unedited 16-bit source keeps its full depth
+        boolean fullDepth = imageState.getHighPrecisionOriginal() != null
+            && imageState.getOperationHistory().isEmpty();
+        String depth = fullDepth ? "16-bit" : "16-bit, 8-bit precision";
+        
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Save Image - Unmess");
+        fileChooser.getExtensionFilters().addAll(
+            new FileChooser.ExtensionFilter("PNG Image", "*.png"),
+            new FileChooser.ExtensionFilter("PNG Image (" + depth + ")", "*.png"),
+            new FileChooser.ExtensionFilter("TIFF Image (" + depth + ")", "*.tif", "*.tiff"),
+            new FileChooser.ExtensionFilter("JPEG Image", "*.jpg", "*.jpeg")
+        );
+        
+        File file = fileChooser.showSaveDialog(stage);
+        if (file != null) {
+            try {
+                String extension = getFileExtension(file);
+                boolean opaque = extension.equalsIgnoreCase("jpg") || extension.equalsIgnoreCase("jpeg");
+                FileChooser.ExtensionFilter filter = fileChooser.getSelectedExtensionFilter();
+                // TIFF is always written at 16 bits; PNG when the 16-bit type is chosen
+                boolean deep = DeepImageIO.supports(extension) && (!extension.equalsIgnoreCase("png")
+                    || filter != null && filter.getDescription().contains("16-bit"));
+                if (deep) {
+                    // An unedited 16-bit source is written back without truncation; edited images are widened
+                    FloatRaster pixels = fullDepth
+                        ? imageState.getHighPrecisionOriginal()
+                        : FloatRaster.fromRaster(imageState.getCurrentImage());
+                    DeepImageIO.write(pixels, extension, file);
+                } else {
+                    javax.imageio.ImageIO.write(
+                        FxImageAdapter.toBufferedImage(imageState.getCurrentImage(), opaque),
+                        extension,
+                        file
+                    );
+                }
+                // A saved crop gets its own dense buffer; the parent's is freed once history drops it
+                imageState = imageState.compacted();
+                // The source now holds the edits, so recovery starts over from the saved file
+                if (file.getAbsolutePath().equals(imageState.getMetadata().getSourcePath())) {
+                    Raster saved = imageState.getCurrentImage();
+                    startJournal(file.getAbsolutePath(), saved.getWidth(), saved.getHeight());
+                }
+                updateStatus("Saved: " + file.getName()
+                    + (deep && !fullDepth ? " (16-bit file with 8-bit precision)" : ""));
+                Logger.info("Image saved: " + file.getAbsolutePath());
+            } catch (Exception e) {
+                showError("Failed to save image: " + e.getMessage());
+                Logger.error("Failed to save image", e);
+            }
+        }
+    }
+    
+    private void applyAdjustments() {
+        if (imageState == null) return;
+        
+        // Capture inputs on the FX thread; the chain itself runs on the preview renderer
+        Raster source = imageState.getOriginalImageReadOnly();
+        AdjustmentsPanel adjustPanel = rightPanel.getAdjustmentsPanel();
+        ToneCurve curve;
+        try {
+            curve = new ToneCurve.Builder()
+                .exposure(adjustPanel.getExposure())
+                .brightness(adjustPanel.getBrightness())
+                .contrast(adjustPanel.getContrast())
+                .highlights(adjustPanel.getHighlights())
+                .shadows(adjustPanel.getShadows())
+                .whites(adjustPanel.getWhites())
+                .blacks(adjustPanel.getBlacks())
+                .channels(adjustPanel.getLevels().toLut().then(adjustPanel.getCurves().toLut()))
+                .build();
+        } catch (ValidationException e) {
+            handleRenderError(e);
+            return;
+        }
+        double noiseReduction = adjustPanel.getNoiseReduction();
+        double clarity = adjustPanel.getClarity();
+        double hue = adjustPanel.getHue();
+        double vibrance = adjustPanel.getVibrance();
+        double saturation = adjustPanel.getSaturation();
+        double blur = adjustPanel.getBlur();
+        boolean linearLight = adjustPanel.isLinearLight();
+        double sharpen = adjustPanel.getSharpen();
+        // 16-bit sources run the tone curve (and saturation when nothing runs in between) in float,
+        // rounding to 8 bits once; noise reduction works on the 8-bit copy and so disables this
+        FloatRaster deepSource = noiseReduction == 0 ? imageState.getHighPrecisionOriginal() : null;
+        boolean deepImage = imageState.getHighPrecisionOriginal() != null;
+        boolean floatSaturation = deepSource != null && saturation != 0 && clarity == 0 && hue == 0 && vibrance == 0;
+        boolean floatPass = deepSource != null && (!curve.isIdentity() || floatSaturation);
+        
+        String label = String.format(
+            "noise=%.2f %s clarity=%.2f hue=%.0f vibrance=%.2f saturation=%.2f blur=%.0f%s sharpen=%.2f",
+            noiseReduction, curve, clarity, hue, vibrance, saturation, blur, linearLight ? " linear" : "", sharpen);
+        
+        display.render(label, () -> {
+            // Intermediate frames are pooled and recycled as soon as the next one exists
+            Raster result = source;
+            if (floatPass) {
+                // The first stage copies the source into the scratch planes, later stages run in place
+                FloatRaster scratch = floatScratch(deepSource);
+                FloatRaster deep = deepSource;
+                if (!curve.isIdentity()) {
+                    deep = ImageProcessorV2.applyToneCurve(deep, curve, scratch);
+                }
+                if (floatSaturation) {
+                    deep = ImageProcessorV2.adjustSaturation(deep, saturation, scratch);
+                }
+                result = deep.toRaster();
+            } else {
+                if (!deepImage) {
+                    // 8-bit image: let the last 16-bit preview's planes go
+                    floatScratch = null;
+                }
+                // Denoise first so later contrast boosts do not amplify the noise
+                if (noiseReduction > 0) {
+                    result = nextFrame(result, ImageProcessorV2.reduceNoise(result, noiseReduction));
+                }
+                // Exposure, brightness, contrast and the Tone tab (with Levels and Curves) compile into one LUT pass
+                if (!curve.isIdentity()) {
+                    result = nextFrame(result, ImageProcessorV2.applyToneCurve(result, curve));
+                }
+            }
+            if (clarity != 0) {
+                result = nextFrame(result, ImageProcessorV2.clarity(result, clarity));
+            }
+            if (hue != 0) {
+                result = nextFrame(result, ImageProcessorV2.rotateHue(result, hue));
+            }
+            if (vibrance != 0) {
+                result = nextFrame(result, ImageProcessorV2.adjustVibrance(result, vibrance));
+            }
+            if (saturation != 0 && !floatSaturation) {
+                result = nextFrame(result, ImageProcessorV2.adjustSaturation(result, saturation));
+            }
+            if (blur > 0) {
+                result = nextFrame(result, ImageProcessorV2.gaussianBlur(result, (int)blur, linearLight));
+            }
+            if (sharpen > 0) {
+                result = nextFrame(result, ImageProcessorV2.sharpen(result, sharpen));
+            }
+            return result;
+        });
+        updateStatus("Adjustments applied (preview)");
+    }
+    
+    // Scratch planes matching the source size, reallocated only when the size changes
+    private FloatRaster floatScratch(FloatRaster source) {
+        if (floatScratch == null || floatScratch.getWidth() != source.getWidth()
+                || floatScratch.getHeight() != source.getHeight()) {
+            floatScratch = new FloatRaster(source.getWidth(), source.getHeight());
+        }
+        return floatScratch;
+    }
+    
+    // Release the previous preview frame (no-op for the unpooled source) and continue with the next
+    private static Raster nextFrame(Raster previous, Raster next) {
+        RasterPool.release(previous);
+        return next;
+    }
+    
+    // Report a failed background preview frame
+    private void handleRenderError(Exception e) {
+        if (e instanceof ValidationException) {
+            showError("Adjustment failed: " + e.getMessage());
+            Logger.error("Adjustment validation failed", e);
+        } else {
+            showError("Preview failed: " + e.getMessage());
+            Logger.error("Preview rendering failed", e);
+        }
+    }
+    
+    private void applyFilter(String filterType) {
+        Operation.Type opType;
+        switch (filterType) {
+            case "grayscale":
+                opType = Operation.Type.GRAYSCALE;
+                break;
+            case "sepia":
+                opType = Operation.Type.SEPIA;
+                break;
+            case "invert":
+                opType = Operation.Type.INVERT;
+                break;
+            case "noiseReduction":
+                // Bake in the slider's strength, or a moderate default when it is at zero
+                double strength = rightPanel.getAdjustmentsPanel().getNoiseReduction();
+                if (strength == 0) {
+                    strength = 0.5;
+                }
+                applyOperation(new Operation.Builder()
+                        .type(Operation.Type.NOISE_REDUCTION)
+                        .parameter("luma", strength)
+                        .parameter("chroma", Math.min(1.0, strength * 1.5)),
+                    "Filter", filterType);
+                return;
+            case "despeckle":
+                // Smallest median window: removes dust and hot pixels, keeps texture
+                applyOperation(new Operation.Builder()
+                        .type(Operation.Type.MEDIAN)
+                        .parameter("radius", 1),
+                    "Filter", filterType);
+                return;
+            default:
+                return;
+        }
+        applyOperation(new Operation.Builder().type(opType), "Filter", filterType);
+    }
+    
+    // Apply histogram-based auto corrections (the state caches its histogram)
+    private void applyAuto(String autoType) {
+        Operation.Type opType;
+        switch (autoType) {
+            case "autoTone":
+                opType = Operation.Type.AUTO_TONE;
+                break;
+            case "autoContrast":
+                opType = Operation.Type.AUTO_CONTRAST;
+                break;
+            case "autoColor":
+                opType = Operation.Type.AUTO_COLOR;
+                break;
+            default:
+                return;
+        }
+        applyOperation(new Operation.Builder().type(opType), "Image", autoType);
+    }
+    
+    // Apply a .cube color look chosen by the user; the lattice is journaled with it so replay needs no file
+    private void applyLut(Stage stage) {
+        if (imageState == null) {
+            showError("No image loaded");
+            return;
+        }
+        
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Apply LUT - Unmess");
+        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("3D LUT", "*.cube"));
+        File file = fileChooser.showOpenDialog(stage);
+        if (file == null) {
+            return;
+        }
+        ColorLut3D lut;
+        try {
+            lut = ColorLut3D.readCube(file.toPath());
+        } catch (IOException e) {
+            showError("Failed to read LUT: " + e.getMessage());
+            Logger.error("Failed to read LUT", e);
+            return;
+        }
+        applyOperation(new Operation.Builder()
+                .type(Operation.Type.LUT_3D)
+                .parameter("path", file.getAbsolutePath()),
+            "Filter", "LUT " + file.getName(), lut);
+    }
+    
+    // Crop to a rectangle chosen in the crop dialog; the engine returns a view, so this does not copy pixels
+    private void cropImage(Stage stage) {
+        if (imageState == null) {
+            showError("No image loaded");
+            return;
+        }
+        
+        Raster current = imageState.getCurrentImage();
+        CropDialog dialog = new CropDialog(current.getWidth(), current.getHeight());
+        dialog.initOwner(stage);
+        dialog.showAndWait().ifPresent(settings -> applyOperation(new Operation.Builder()
+                .type(Operation.Type.CROP)
+                .parameter("x", settings.getX())
+                .parameter("y", settings.getY())
+                .parameter("width", settings.getWidth())
+                .parameter("height", settings.getHeight()),
+            "Image", String.format("crop %dx%d at (%d,%d)", settings.getWidth(), settings.getHeight(),
+                settings.getX(), settings.getY())));
+    }
+    
+    // Resample the current image to a size and filter chosen in the resize dialog
+    private void resizeImage(Stage stage) {
+        if (imageState == null) {
+            showError("No image loaded");
+            return;
+        }
+        
+        Raster current = imageState.getCurrentImage();
+        ResizeDialog dialog = new ResizeDialog(current.getWidth(), current.getHeight());
+        dialog.initOwner(stage);
+        dialog.showAndWait().ifPresent(settings -> applyOperation(new Operation.Builder()
+                .type(Operation.Type.RESIZE)
+                .parameter("width", settings.getWidth())
+                .parameter("height", settings.getHeight())
+                .parameter("filter", settings.getFilter().name())
+                .parameter("linear", settings.isLinearLight()),
+            "Image", String.format("resize %dx%d %s%s", settings.getWidth(), settings.getHeight(),
+                settings.getFilter().getDisplayName(), settings.isLinearLight() ? " linear" : "")));
+    }
+    
+    // Rotate by an arbitrary angle chosen in the rotate dialog (e.g. to straighten a horizon)
+    private void rotateImage(Stage stage) {
+        if (imageState == null) {
+            showError("No image loaded");
+            return;
+        }
+        
+        RotateDialog dialog = new RotateDialog();
+        dialog.initOwner(stage);
+        dialog.showAndWait()
+            .filter(settings -> settings.getDegrees() != 0)
+            .ifPresent(settings -> applyOperation(new Operation.Builder()
+                    .type(Operation.Type.ROTATE)
+                    .parameter("degrees", settings.getDegrees())
+                    .parameter("filter", settings.getFilter().name())
+                    .parameter("expand", settings.isExpand()),
+                "Transform", String.format("rotate %.1f° %s%s", settings.getDegrees(),
+                    settings.getFilter().getDisplayName(), settings.isExpand() ? "" : " (cropped)")));
+    }
+    
+    // Apply transform operations (rotate, flip)
+    private void applyTransform(String transformType) {
+        Operation.Type opType;
+        switch (transformType) {
+            case "rotateCW":
+                opType = Operation.Type.ROTATE_CW;
+                break;
+            case "rotateCCW":
+                opType = Operation.Type.ROTATE_CCW;
+                break;
+            case "flipH":
+                opType = Operation.Type.FLIP_H;
+                break;
+            case "flipV":
+                opType = Operation.Type.FLIP_V;
+                break;
+            default:
+                return;
+        }
+        applyOperation(new Operation.Builder().type(opType), "Transform", transformType);
+    }
+    
+    // Execute an operation on the current image and record it in history, journal and display
+    private void applyOperation(Operation.Builder builder, String kind, String name) {
+        applyOperation(builder, kind, name, null);
+    }
+    
+    // A loaded LUT is applied and journaled as is instead of being re-read from its path
+    private void applyOperation(Operation.Builder builder, String kind, String name, ColorLut3D lut) {
+        if (imageState == null) {
+            showError("No image loaded");
+            return;
+        }
+        
+        try {
+            long startTime = System.nanoTime();
+            Operation request = builder.build();
+            Histogram histogram = OperationReplayer.usesHistogram(request.getType())
+                    ? imageState.getHistogram() : null;
+            EditResult edit = lut != null
+                    ? OperationReplayer.applyLut(imageState.getCurrentImage(), lut)
+                    : OperationReplayer.apply(imageState.getCurrentImage(), request, histogram);
+            Operation operation = builder
+                    .executionTimeMs((System.nanoTime() - startTime) / 1_000_000L)
+                    .build();
+            
+            historyManager.saveState(imageState);
+            imageState = imageState.withEdit(edit, operation);
+            journalOperation(operation, lut);
+            display.show(edit.getImage(), edit.getDirtyRegion());
+            RasterPool.release(edit.getImage());
+            rightPanel.getHistoryPanel().addHistoryItem(kind + ": " + name);
+            updateStatus(kind + " applied: " + name);
+            Logger.info(kind + " applied: " + name);
+        } catch (ValidationException e) {
+            showError(kind + " failed: " + e.getMessage());
+            Logger.error(kind + " validation failed", e);
+        }
+    }
+    
+    private void undo() {
+        if (historyManager.canUndo()) {
+            ImageState previous = historyManager.undo();
+            if (previous != null) {
+                DirtyRegion changed = imageState.getDirtyRegion()
+                    .union(historyManager.getLastTransitionRegion());
+                imageState = previous;
+                journalUndo();
+                display.show(previous.getCurrentImage(), changed);
+                updateStatus("Undo applied");
+                Logger.info("Undo: " + historyManager.getStatistics());
+            }
+        } else {
+            updateStatus("Nothing to undo");
+        }
+    }
+    
+    private void redo() {
+        if (historyManager.canRedo()) {
+            ImageState next = historyManager.redo();
+            if (next != null) {
+                imageState = next;
+                journalRedo();
+                display.show(next.getCurrentImage(), historyManager.getLastTransitionRegion());
+                updateStatus("Redo applied");
+                Logger.info("Redo: " + historyManager.getStatistics());
+            }
+        } else {
+            updateStatus("Nothing to redo");
+        }
+    }
+    
+    // Edit journal and crash recovery
+    private void startJournal(String sourcePath, int width, int height) {
+        closeJournal();
+        journalDepth = 0;
+        try {
+            journal = EditJournal.create(sourcePath, width, height);
+        } catch (IOException e) {
+            journal = null;
+            Logger.error("Failed to start edit journal, crash recovery disabled", e);
+        }
+    }
+    
+    private void closeJournal() {
+        if (journal == null) return;
+        
+        try {
+            journal.close();
+        } catch (IOException e) {
+            Logger.error("Failed to close edit journal", e);
+        }
+        journal = null;
+    }
+    
+    private void journalOperation(Operation operation, ColorLut3D lut) {
+        if (journal == null) return;
+        
+        journalDepth++;
+        try {
+            if (lut != null) {
+                journal.appendLut(operation, lut);
+            } else {
+                journal.appendOperation(operation);
+            }
+        } catch (IOException e) {
+            Logger.error("Failed to journal operation: " + operation.getType(), e);
+        }
+    }
+    
+    private void journalUndo() {
+        if (journal == null) return;
+        
+        if (journalDepth == 0) {
+            // Undoing past a save over the source: the file no longer holds this state
+            Logger.warning("Undo before the last save, crash recovery paused until the next save");
+            closeJournal();
+            return;
+        }
+        journalDepth--;
+        try {
+            journal.appendUndo();
+        } catch (IOException e) {
+            Logger.error("Failed to journal undo", e);
+        }
+    }
+    
+    private void journalRedo() {
+        if (journal == null) return;
+        
+        journalDepth++;
+        try {
+            journal.appendRedo();
+        } catch (IOException e) {
+            Logger.error("Failed to journal redo", e);
+        }
+    }
+    
+    private void recoverUncleanSession() {
+        Optional<Path> uncleanJournal = EditJournal.findUncleanSession();
+        if (uncleanJournal.isEmpty()) return;
+        
+        Path journalPath = uncleanJournal.get();
+        try {
+            EditJournal.Contents contents = EditJournal.read(journalPath);
+            if (!contents.matchesSource()) {
+                showError("Session recovery skipped: " + contents.getSourcePath()
+                    + " has changed since the edits were journaled");
+                Logger.warning("Edit journal does not match its source, not replayed: " + journalPath);
+                EditJournal.discard(journalPath);
+                return;
+            }
+            
+            Alert confirm = new Alert(Alert.AlertType.CONFIRMATION);
+            confirm.setTitle("Recover Session");
+            confirm.setHeaderText("Unmess did not shut down cleanly");
+            confirm.setContentText(String.format("Recover %d journaled edit(s) to %s?",
+                contents.getEntries().size(), new File(contents.getSourcePath()).getName()));
+            
+            Optional<ButtonType> answer = confirm.showAndWait();
+            if (answer.isEmpty() || answer.get() != ButtonType.OK) {
+                EditJournal.discard(journalPath);
+                return;
+            }
+            
+            replayJournal(contents);
+        } catch (IOException | ValidationException e) {
+            showError("Session recovery failed: " + e.getMessage());
+            Logger.error("Session recovery failed", e);
+            EditJournal.discard(journalPath);
+        }
+    }
+    
+    // Rebuild image state and history by replaying journaled edits on the source
+    private void replayJournal(EditJournal.Contents contents) throws IOException, ValidationException {
+        long startTime = System.currentTimeMillis();
+        
+        File source = new File(contents.getSourcePath());
+        ImageState loaded = loadState(source);
+        if (loaded.getCurrentImage().getWidth() != contents.getWidth()
+                || loaded.getCurrentImage().getHeight() != contents.getHeight()) {
+            throw new IOException("Source image size does not match the edit journal: " + source);
+        }
+        imageState = loaded;
+        historyManager.clear();
+        rightPanel.getHistoryPanel().clearHistory();
+        int depth = 0;
+        int replayed = 0;
+        
+        // Replay stops at the first entry that cannot be applied; the edits before it are kept
+        for (EditJournal.Entry entry : contents.getEntries()) {
+            try {
+                depth += replayEntry(entry);
+            } catch (ValidationException e) {
+                Logger.warning(String.format("Journaled edit %d of %d cannot be replayed, later edits dropped: %s",
+                    replayed + 1, contents.getEntries().size(), e.getMessage()));
+                break;
+            }
+            replayed++;
+        }
+        
+        journal = EditJournal.resume(contents.prefix(replayed));
+        journalDepth = depth;
+        display.show(imageState.getCurrentImage());
+        rightPanel.getAdjustmentsPanel().resetAll();
+        fitToScreen();
+        
+        long elapsed = System.currentTimeMillis() - startTime;
+        int total = contents.getEntries().size();
+        updateStatus("Recovered session: " + source.getName() + " (" + replayed + " edits"
+            + (replayed < total ? ", " + (total - replayed) + " could not be replayed" : "") + ")");
+        Logger.info(String.format("Session recovered from %s: %d of %d edits replayed in %dms",
+            contents.getJournalPath(), replayed, total, elapsed));
+    }
+    
+    // Apply one journaled record to the recovered state; returns its change in undo depth
+    private int replayEntry(EditJournal.Entry entry) throws ValidationException {
+        switch (entry.getType()) {
+            case OPERATION:
+            case PATCH:
+            case LUT: {
+                Operation operation = entry.getOperation();
+                Raster current = imageState.getCurrentImage();
+                EditResult edit;
+                if (entry.getType() == EditJournal.RecordType.PATCH) {
+                    edit = OperationReplayer.applyPatch(current,
+                        entry.getX(), entry.getY(), entry.getWidth(), entry.getHeight(), entry.getPixels());
+                } else if (entry.getType() == EditJournal.RecordType.LUT) {
+                    edit = OperationReplayer.applyLut(current, entry.getLut());
+                } else {
+                    edit = OperationReplayer.apply(current, operation);
+                }
+                historyManager.saveState(imageState);
+                imageState = imageState.withEdit(edit, operation);
+                RasterPool.release(edit.getImage());
+                rightPanel.getHistoryPanel().addHistoryItem("Recovered: " + operation.getType());
+                return 1;
+            }
+            case UNDO: {
+                ImageState previous = historyManager.undo();
+                if (previous == null) return 0;
+                imageState = previous;
+                return -1;
+            }
+            case REDO: {
+                ImageState next = historyManager.redo();
+                if (next == null) return 0;
+                imageState = next;
+                return 1;
+            }
+            default:
+                return 0;
+        }
+    }
+    
+    // Zoom controls
+    private void zoomIn() {
+        currentZoom = Math.min(currentZoom * 1.2, 8.0);
+        applyZoom();
+    }
+    
+    private void zoomOut() {
+        currentZoom = Math.max(currentZoom / 1.2, 0.1);
+        applyZoom();
+    }
+    
+    private void fitToScreen() {
+        if (imageView.getImage() != null) {
+            double imageWidth = imageView.getImage().getWidth();
+            double imageHeight = imageView.getImage().getHeight();
+            double viewWidth = scrollPane.getViewportBounds().getWidth();
+            double viewHeight = scrollPane.getViewportBounds().getHeight();
+            
+            currentZoom = Math.min(viewWidth / imageWidth, viewHeight / imageHeight) * 0.95;
+            applyZoom();
+        }
+    }
+    
+    private void actualSize() {
+        currentZoom = 1.0;
+        applyZoom();
+    }
+    
+    private void applyZoom() {
+        if (imageView.getImage() != null) {
+            imageView.setFitWidth(imageView.getImage().getWidth() * currentZoom);
+            imageView.setFitHeight(imageView.getImage().getHeight() * currentZoom);
+            topToolBar.updateZoom(currentZoom);
+        }
+    }
+    
+    // Helper methods
+    private void updateStatus(String message) {
+        statusLabel.setText(message);
+    }
+    
+    private void showError(String message) {
+        Alert alert = new Alert(Alert.AlertType.ERROR);
+        alert.setTitle("Error");
+        alert.setHeaderText("Operation Failed");
+        alert.setContentText(message);
+        alert.showAndWait();
+    }
+    
+    private String getFileExtension(File file) {
+        String name = file.getName();
+        int lastDot = name.lastIndexOf('.');
+        return lastDot > 0 ? name.substring(lastDot + 1) : "png";
+    }
+    
+    public static void main(String[] args) {
+        launch(args);
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.unmess.fx;
+
+import com.example.unmess.core.Constants;
+import com.example.unmess.core.Logger;
+import com.example.unmess.core.MetricsRegistry;
+import javafx.application.Platform;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Detects stalls of the JavaFX Application Thread.
+ *
+ * A daemon thread posts a heartbeat with {@code Platform.runLater} and
+ * measures how long the FX thread takes to run it. When a heartbeat is
+ * overdue the FX thread's stack is captured while it is still blocked, so
+ * the log shows the exact code path that froze the UI.
+ *
+ * Attribution: UI entry points wrap their work in {@link #beginAction} /
+ * {@link #endAction}; each stall is logged and recorded in
+ * {@link MetricsRegistry} as {@code fx-stall:<action>} with its duration.
+ *
+ * @author Photo Editor Engineering Team
+ * @version 1.0.0
+ */
+public final class FxStallWatchdog {
+
+    private static final int MAX_STACK_FRAMES = 40;
+
+    private final long thresholdNanos;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile Thread fxThread;
+    private volatile String currentAction;
+    private volatile String lastAction;
+
+    // Heartbeat state: written by the checker while none is pending, by the FX thread otherwise
+    private volatile long heartbeatPostedAt;
+    private volatile boolean stallCaptured;
+    private volatile String stalledAction;
+
+    public FxStallWatchdog() {
+        this(Constants.FX_STALL_THRESHOLD_MS);
+    }
+
+    /**
+     * @param thresholdMs Heartbeat latency above which the FX thread counts as stalled
+     */
+    public FxStallWatchdog(long thresholdMs) {
+        if (thresholdMs <= 0) {
+            throw new IllegalArgumentException("Stall threshold must be positive");
+        }
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMs);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "unmess-fx-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Start watching. Must be called on the FX Application Thread.
+     *
+     * @throws IllegalStateException if called from another thread
+     */
+    public void start() {
+        if (!Platform.isFxApplicationThread()) {
+            throw new IllegalStateException("Watchdog must be started on the FX Application Thread");
+        }
+        fxThread = Thread.currentThread();
+        scheduler.scheduleAtFixedRate(this::check,
+            Constants.FX_WATCHDOG_INTERVAL_MS, Constants.FX_WATCHDOG_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        Logger.info(() -> String.format("FX stall watchdog started (threshold %dms)",
+            TimeUnit.NANOSECONDS.toMillis(thresholdNanos)));
+    }
+
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Mark the start of a UI action that runs on the FX thread
+     */
+    public void beginAction(String action) {
+        currentAction = action;
+        lastAction = action;
+    }
+
+    public void endAction() {
+        currentAction = null;
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private void check() {
+        long posted = heartbeatPostedAt;
+        long now = System.nanoTime();
+
+        if (posted == 0) {
+            heartbeatPostedAt = now;
+            Platform.runLater(() -> onHeartbeat(now));
+            return;
+        }
+
+        if (!stallCaptured && now - posted > thresholdNanos) {
+            String action = currentAction != null ? currentAction : lastAction;
+            stalledAction = action;
+            stallCaptured = true;
+            Logger.warning(String.format("FX thread blocked for %dms in action '%s'%s",
+                TimeUnit.NANOSECONDS.toMillis(now - posted), action, formatStack(fxThread)));
+        }
+    }
+
+    private void onHeartbeat(long posted) {
+        long latency = System.nanoTime() - posted;
+
+        if (latency > thresholdNanos) {
+            String action = stallCaptured ? stalledAction : lastAction;
+            String name = "fx-stall:" + (action != null ? action : "unknown");
+            MetricsRegistry.record(name, latency, 0, -1);
+            Logger.warning(() -> String.format("FX thread stalled for %dms in action '%s'",
+                TimeUnit.NANOSECONDS.toMillis(latency), action));
+        }
+
+        stallCaptured = false;
+        stalledAction = null;
+        heartbeatPostedAt = 0;
+    }
+
+    private static String formatStack(Thread thread) {
+        if (thread == null) {
+            return "";
+        }
+        StackTraceElement[] stack = thread.getStackTrace();
+        StringBuilder builder = new StringBuilder();
+        int frames = Math.min(stack.length, MAX_STACK_FRAMES);
+        for (int i = 0; i < frames; i++) {
+            builder.append("\n\tat ").append(stack[i]);
+        }
+        if (stack.length > frames) {
+            builder.append("\n\t... ").append(stack.length - frames).append(" more");
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,361 @@
+package com.example.unmess.fx;
+
+import com.example.unmess.core.Logger;
+import com.example.unmess.engine.DirtyRegion;
+import com.example.unmess.engine.Histogram;
+import com.example.unmess.engine.Raster;
+import com.example.unmess.engine.RasterPool;
+import com.example.unmess.engine.TiledHistogram;
+import com.example.unmess.jfr.PreviewPublishEvent;
+import javafx.application.Platform;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelBuffer;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Double-buffered canvas backed by {@link PixelBuffer}s over direct memory.
+ *
+ * Two surfaces alternate: the back surface is written while the front one
+ * is on screen, then the FX thread swaps them and signals only the changed
+ * rectangle through {@link PixelBuffer#updateBuffer}. Prism re-uploads that
+ * region of an existing texture instead of a brand-new image, and steady
+ * state frames allocate nothing.
+ *
+ * Rendering:
+ * - {@link #show} publishes a raster synchronously on the FX thread; with a
+ *   partial {@link DirtyRegion} (a patch, or undo/redo across one) only the
+ *   changed rectangles are copied and uploaded
+ * - {@link #render} runs a frame producer on a background renderer thread;
+ *   requests are coalesced so only the newest pending frame is produced
+ *
+ * Histogram: with a listener set, every written frame also updates a
+ * {@link TiledHistogram} from the same changed region, so only tiles that
+ * changed are recounted, and the histogram of each frame is delivered on
+ * the FX thread when that frame goes on screen.
+ *
+ * Pixel format: surfaces are premultiplied ARGB (required by PixelBuffer);
+ * non-premultiplied raster pixels are converted row by row while copying.
+ *
+ * @author Photo Editor Engineering Team
+ * @version 1.0.0
+ */
+public final class PixelBufferDisplay {
+
+    /**
+     * Produces a frame on the renderer thread. Pooled frames are released
+     * by the display once copied.
+     */
+    @FunctionalInterface
+    public interface FrameProducer {
+        Raster produce() throws Exception;
+    }
+
+    private final ImageView view;
+    private final ExecutorService renderer;
+    private final AtomicReference<Job> pendingJob = new AtomicReference<>();
+    private final ReentrantLock surfaceLock = new ReentrantLock();
+
+    // Guarded by surfaceLock
+    private Surface front;
+    private Surface back;
+    private long generation;
+    private final TiledHistogram histogram = new TiledHistogram();
+
+    private volatile Consumer<Exception> errorHandler = e -> Logger.error("Preview rendering failed", e);
+    private volatile Consumer<Histogram> histogramListener;
+
+    public PixelBufferDisplay(ImageView view) {
+        this.view = Objects.requireNonNull(view, "Image view cannot be null");
+        this.renderer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "unmess-preview-renderer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Handler for producer failures, invoked on the FX thread
+     */
+    public void setOnRenderError(Consumer<Exception> handler) {
+        this.errorHandler = Objects.requireNonNull(handler, "Handler cannot be null");
+    }
+
+    /**
+     * Receiver of the histogram of each displayed frame, invoked on the FX
+     * thread; null stops histogram tracking
+     */
+    public void setOnHistogram(Consumer<Histogram> listener) {
+        this.histogramListener = listener;
+    }
+
+    /**
+     * Publish a raster immediately, superseding any frame still being rendered.
+     * Must be called on the FX Application Thread. The raster is not released.
+     */
+    public void show(Raster image) {
+        show(image, DirtyRegion.full(image.getWidth(), image.getHeight()));
+    }
+
+    /**
+     * Publish a raster that differs from the displayed one only inside {@code dirty}
+     */
+    public void show(Raster image, DirtyRegion dirty) {
+        Objects.requireNonNull(image, "Image cannot be null");
+        Objects.requireNonNull(dirty, "Dirty region cannot be null");
+        surfaceLock.lock();
+        try {
+            generation++;
+            pendingJob.set(null);
+            swap(writeFrame(image, dirty), generation, null);
+        } finally {
+            surfaceLock.unlock();
+        }
+    }
+
+    /**
+     * Produce and publish a frame on the renderer thread.
+     * Must be called on the FX Application Thread.
+     *
+     * @param label Description recorded with the publish event, e.g. parameters
+     * @param producer Frame source, run off the FX thread
+     */
+    public void render(String label, FrameProducer producer) {
+        long submittedGeneration;
+        surfaceLock.lock();
+        try {
+            submittedGeneration = generation;
+        } finally {
+            surfaceLock.unlock();
+        }
+        if (pendingJob.getAndSet(new Job(label, producer, submittedGeneration)) == null) {
+            renderer.execute(this::drain);
+        }
+    }
+
+    public void dispose() {
+        pendingJob.set(null);
+        renderer.shutdownNow();
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * Renderer loop: produce the newest pending frame, then wait for the
+     * FX thread to swap it in before touching the back surface again
+     */
+    private void drain() {
+        Job job;
+        while ((job = pendingJob.getAndSet(null)) != null) {
+            Raster frame;
+            try {
+                frame = job.producer.produce();
+            } catch (Exception e) {
+                Consumer<Exception> handler = errorHandler;
+                Platform.runLater(() -> handler.accept(e));
+                continue;
+            }
+
+            Frame written;
+            surfaceLock.lock();
+            try {
+                written = job.generation == generation
+                    ? writeFrame(frame, DirtyRegion.full(frame.getWidth(), frame.getHeight()))
+                    : null;
+            } finally {
+                surfaceLock.unlock();
+                RasterPool.release(frame);
+            }
+            if (written == null) {
+                continue;
+            }
+
+            CountDownLatch swapped = new CountDownLatch(1);
+            String label = job.label;
+            long frameGeneration = job.generation;
+            Platform.runLater(() -> {
+                surfaceLock.lock();
+                try {
+                    swap(written, frameGeneration, label);
+                } finally {
+                    surfaceLock.unlock();
+                    swapped.countDown();
+                }
+            });
+            try {
+                swapped.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Copy a frame into the back surface. Caller must hold surfaceLock.
+     */
+    private Frame writeFrame(Raster frame, DirtyRegion dirty) {
+        int width = frame.getWidth();
+        int height = frame.getHeight();
+
+        if (back == null || back.width != width || back.height != height) {
+            front = new Surface(width, height);
+            back = new Surface(width, height);
+        }
+
+        // The back surface also lags by whatever changed while it was off screen
+        DirtyRegion changed = dirty.clip(width, height);
+        DirtyRegion write = changed.union(back.stale);
+        for (DirtyRegion.Rect rect : write.getRectangles()) {
+            copyPremultiplied(frame, back, rect);
+        }
+        back.stale = DirtyRegion.EMPTY;
+        front.stale = front.stale.union(changed);
+
+        Histogram frameHistogram = null;
+        if (histogramListener != null) {
+            histogram.update(frame, changed);
+            frameHistogram = histogram.snapshot();
+        } else {
+            histogram.invalidate();
+        }
+
+        return new Frame(back, write, frameHistogram);
+    }
+
+    /**
+     * Signal the written region and put the surface on screen. FX thread,
+     * caller must hold surfaceLock.
+     */
+    private void swap(Frame frame, long frameGeneration, String label) {
+        if (frameGeneration != generation || frame.surface != back) {
+            return; // superseded by a newer frame
+        }
+
+        PreviewPublishEvent event = new PreviewPublishEvent();
+        event.begin();
+
+        DirtyRegion.Rect bounds = frame.region.getBounds();
+        if (bounds != null) {
+            frame.surface.pixelBuffer.updateBuffer(buffer -> new Rectangle2D(
+                bounds.getX(), bounds.getY(), bounds.getWidth(), bounds.getHeight()));
+        }
+        if (view.getImage() != frame.surface.image) {
+            view.setImage(frame.surface.image);
+        }
+
+        back = front;
+        front = frame.surface;
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.width = frame.surface.width;
+            event.height = frame.surface.height;
+            event.bytes = 4L * frame.region.getArea();
+            event.parameters = label;
+            event.tiles = frame.region.getRectangles().size();
+            event.commit();
+        }
+
+        Consumer<Histogram> listener = histogramListener;
+        if (listener != null && frame.histogram != null) {
+            listener.accept(frame.histogram);
+        }
+    }
+
+    private static void copyPremultiplied(Raster frame, Surface surface, DirtyRegion.Rect rect) {
+        int rowWidth = rect.getWidth();
+        int[] src = frame.getPixels();
+        int[] row = RasterPool.acquireArray(rowWidth);
+        try {
+            for (int y = rect.getY(); y < rect.getBottom(); y++) {
+                int srcRow = frame.indexOf(rect.getX(), y);
+                for (int x = 0; x < rowWidth; x++) {
+                    row[x] = premultiply(src[srcRow + x]);
+                }
+                surface.buffer.put(y * surface.width + rect.getX(), row, 0, rowWidth);
+            }
+        } finally {
+            RasterPool.releaseArray(row);
+        }
+    }
+
+    private static int premultiply(int argb) {
+        int a = argb >>> 24;
+        if (a == 0xFF) {
+            return argb;
+        }
+        if (a == 0) {
+            return 0;
+        }
+        int r = ((argb >> 16) & 0xFF) * a + 128;
+        int g = ((argb >> 8) & 0xFF) * a + 128;
+        int b = (argb & 0xFF) * a + 128;
+        // Exact round(c * a / 255) without a division
+        r = (r + (r >> 8)) >> 8;
+        g = (g + (g >> 8)) >> 8;
+        b = (b + (b >> 8)) >> 8;
+        return (a << 24) | (r << 16) | (g << 8) | b;
+    }
+
+    // ==================== Nested Types ====================
+
+    /**
+     * One display buffer: direct memory, its PixelBuffer and the image showing it
+     */
+    private static final class Surface {
+        final int width;
+        final int height;
+        final IntBuffer buffer;
+        final PixelBuffer<IntBuffer> pixelBuffer;
+        final WritableImage image;
+        DirtyRegion stale;
+
+        Surface(int width, int height) {
+            this.width = width;
+            this.height = height;
+            this.buffer = ByteBuffer.allocateDirect(Math.multiplyExact(width * 4, height))
+                .order(ByteOrder.nativeOrder())
+                .asIntBuffer();
+            this.pixelBuffer = new PixelBuffer<>(width, height, buffer, PixelFormat.getIntArgbPreInstance());
+            this.image = new WritableImage(pixelBuffer);
+            this.stale = DirtyRegion.full(width, height);
+        }
+    }
+
+    private static final class Frame {
+        final Surface surface;
+        final DirtyRegion region;
+        final Histogram histogram;
+
+        Frame(Surface surface, DirtyRegion region, Histogram histogram) {
+            this.surface = surface;
+            this.region = region;
+            this.histogram = histogram;
+        }
+    }
+
+    private static final class Job {
+        final String label;
+        final FrameProducer producer;
+        final long generation;
+
+        Job(String label, FrameProducer producer, long generation) {
+            this.label = label;
+            this.producer = producer;
+            this.generation = generation;
+        }
+    }
+}
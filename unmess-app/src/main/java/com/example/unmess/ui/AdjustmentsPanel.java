@@ -2,9 +2,13 @@ package com.example.unmess.ui;
 
 import java.util.function.Consumer;
 
+import com.example.unmess.core.ValidationException;
+import com.example.unmess.engine.Curves;
+import com.example.unmess.engine.Levels;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
 import javafx.scene.control.Label;
 import javafx.scene.control.ScrollPane;
 import javafx.scene.control.Separator;
@@ -31,8 +35,15 @@ public class AdjustmentsPanel extends VBox {
     private Slider claritySlider;
     private Slider vibranceSlider;
     private Slider blurSlider;
+    private CheckBox linearLightCheck;
     private Slider sharpenSlider;
     private Slider noiseReductionSlider;
+    private Slider levelsInputBlackSlider;
+    private Slider levelsGammaSlider;
+    private Slider levelsInputWhiteSlider;
+    private Slider levelsOutputBlackSlider;
+    private Slider levelsOutputWhiteSlider;
+    private CurvesEditor curvesEditor;
     
     private Consumer<Void> onAdjustmentChanged;
     
@@ -123,6 +134,24 @@ public class AdjustmentsPanel extends VBox {
         blacksSlider = createAdjustmentSlider("Blacks", -100, 100, 0);
         claritySlider = createAdjustmentSlider("Clarity", -100, 100, 0);
         
+        levelsInputBlackSlider = createAdjustmentSlider("Input Black", 0, 255, 0);
+        levelsGammaSlider = createAdjustmentSlider("Gamma", 0.1, 9.99, 1.0);
+        levelsInputWhiteSlider = createAdjustmentSlider("Input White", 0, 255, 255);
+        levelsOutputBlackSlider = createAdjustmentSlider("Output Black", 0, 255, 0);
+        levelsOutputWhiteSlider = createAdjustmentSlider("Output White", 0, 255, 255);
+        
+        curvesEditor = new CurvesEditor();
+        curvesEditor.setOnChange(() -> {
+            if (onAdjustmentChanged != null) {
+                onAdjustmentChanged.accept(null);
+            }
+        });
+        
+        Label levelsLabel = new Label("LEVELS");
+        levelsLabel.setStyle("-fx-text-fill: #333333; -fx-font-weight: bold; -fx-font-size: 11px;");
+        Label curvesLabel = new Label("CURVES");
+        curvesLabel.setStyle("-fx-text-fill: #333333; -fx-font-weight: bold; -fx-font-size: 11px;");
+        
         content.getChildren().addAll(
             createSliderGroup("Highlights", highlightsSlider),
             createSliderGroup("Shadows", shadowsSlider),
@@ -130,7 +159,17 @@ public class AdjustmentsPanel extends VBox {
             createSliderGroup("Whites", whitesSlider),
             createSliderGroup("Blacks", blacksSlider),
             new Separator(),
-            createSliderGroup("Clarity", claritySlider)
+            createSliderGroup("Clarity", claritySlider),
+            new Separator(),
+            levelsLabel,
+            createSliderGroup("Input Black", levelsInputBlackSlider),
+            createSliderGroup("Gamma", levelsGammaSlider),
+            createSliderGroup("Input White", levelsInputWhiteSlider),
+            createSliderGroup("Output Black", levelsOutputBlackSlider),
+            createSliderGroup("Output White", levelsOutputWhiteSlider),
+            new Separator(),
+            curvesLabel,
+            curvesEditor
         );
         
         ScrollPane scroll = new ScrollPane(content);
@@ -148,9 +187,19 @@ public class AdjustmentsPanel extends VBox {
         blurSlider = createAdjustmentSlider("Blur", 0, 10, 0);
         noiseReductionSlider = createAdjustmentSlider("Noise Reduction", 0, 100, 0);
         
+        // Blurring linear light keeps bright edges from darkening
+        linearLightCheck = new CheckBox("Blur in linear light");
+        linearLightCheck.setStyle("-fx-text-fill: #666666; -fx-font-size: 11px;");
+        linearLightCheck.selectedProperty().addListener((obs, old, val) -> {
+            if (onAdjustmentChanged != null) {
+                onAdjustmentChanged.accept(null);
+            }
+        });
+        
         content.getChildren().addAll(
             createSliderGroup("Sharpen", sharpenSlider),
             createSliderGroup("Blur", blurSlider),
+            linearLightCheck,
             createSliderGroup("Noise Reduction", noiseReductionSlider)
         );
         
@@ -205,7 +254,8 @@ public class AdjustmentsPanel extends VBox {
             valueLabel.setText(formatValue(val.doubleValue(), slider.getMin(), slider.getMax()))
         );
         
-        // Reset button for individual slider
+        // Reset button for individual slider, back to its initial value
+        double initial = slider.getValue();
         Button resetBtn = new Button("↻");
         resetBtn.setPrefSize(24, 24);
         resetBtn.setStyle(
@@ -217,7 +267,7 @@ public class AdjustmentsPanel extends VBox {
             "-fx-border-width: 1; " +
             "-fx-border-radius: 4;"
         );
-        resetBtn.setOnAction(e -> slider.setValue(0));
+        resetBtn.setOnAction(e -> slider.setValue(initial));
         resetBtn.setOnMouseEntered(e -> resetBtn.setStyle(
             "-fx-background-color: #2196F3; " +
             "-fx-text-fill: #ffffff; " +
@@ -246,7 +296,7 @@ public class AdjustmentsPanel extends VBox {
     private String formatValue(double value, double min, double max) {
         if (max <= 10) {
             return String.format("%.2f", value);
-        } else if (max <= 100) {
+        } else if (max <= 100 || min >= 0) {
             return String.format("%d", (int) value);
         } else {
             return String.format("%.0f°", value);
@@ -258,7 +308,32 @@ public class AdjustmentsPanel extends VBox {
     public double getContrast() { return contrastSlider.getValue() / 100.0; }
     public double getSaturation() { return saturationSlider.getValue() / 100.0; }
     public double getBlur() { return blurSlider.getValue(); }
+    public boolean isLinearLight() { return linearLightCheck.isSelected(); }
     public double getSharpen() { return sharpenSlider.getValue() / 50.0; }
+    public double getExposure() { return exposureSlider.getValue(); }
+    public double getHue() { return hueSlider.getValue(); }
+    public double getVibrance() { return vibranceSlider.getValue() / 100.0; }
+    public double getHighlights() { return highlightsSlider.getValue() / 100.0; }
+    public double getShadows() { return shadowsSlider.getValue() / 100.0; }
+    public double getWhites() { return whitesSlider.getValue() / 100.0; }
+    public double getBlacks() { return blacksSlider.getValue() / 100.0; }
+    public double getClarity() { return claritySlider.getValue() / 100.0; }
+    public double getNoiseReduction() { return noiseReductionSlider.getValue() / 100.0; }
+    
+    // Levels from the sliders; the input black point is kept below the white point
+    public Levels getLevels() throws ValidationException {
+        int inputBlack = Math.min(254, (int) levelsInputBlackSlider.getValue());
+        int inputWhite = Math.max(inputBlack + 1, (int) levelsInputWhiteSlider.getValue());
+        return new Levels.Builder()
+            .input(inputBlack, inputWhite)
+            .gamma(levelsGammaSlider.getValue())
+            .output((int) levelsOutputBlackSlider.getValue(), (int) levelsOutputWhiteSlider.getValue())
+            .build();
+    }
+    
+    public Curves getCurves() throws ValidationException {
+        return curvesEditor.getCurves();
+    }
     
     public void setOnAdjustmentChanged(Consumer<Void> callback) {
         this.onAdjustmentChanged = callback;
@@ -277,7 +352,14 @@ public class AdjustmentsPanel extends VBox {
         claritySlider.setValue(0);
         vibranceSlider.setValue(0);
         blurSlider.setValue(0);
+        linearLightCheck.setSelected(false);
         sharpenSlider.setValue(0);
         noiseReductionSlider.setValue(0);
+        levelsInputBlackSlider.setValue(0);
+        levelsGammaSlider.setValue(1.0);
+        levelsInputWhiteSlider.setValue(255);
+        levelsOutputBlackSlider.setValue(0);
+        levelsOutputWhiteSlider.setValue(255);
+        curvesEditor.reset();
     }
 }
@@ -0,0 +1,76 @@
+package com.example.unmess.ui;
+
+import java.util.List;
+
+import javafx.geometry.Insets;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.Dialog;
+import javafx.scene.control.Label;
+import javafx.scene.control.Spinner;
+import javafx.scene.control.SpinnerValueFactory.IntegerSpinnerValueFactory;
+import javafx.scene.layout.GridPane;
+
+// Crop rectangle dialog: left/top edge and size in image pixels, always kept inside the image
+public class CropDialog extends Dialog<CropDialog.Settings> {
+
+    private final Spinner<Integer> leftSpinner;
+    private final Spinner<Integer> topSpinner;
+    private final Spinner<Integer> widthSpinner;
+    private final Spinner<Integer> heightSpinner;
+
+    public CropDialog(int imageWidth, int imageHeight) {
+        setTitle("Crop - Unmess");
+        setHeaderText("Image size: " + imageWidth + " x " + imageHeight + " px");
+
+        leftSpinner = new Spinner<>(0, imageWidth - 1, 0);
+        topSpinner = new Spinner<>(0, imageHeight - 1, 0);
+        widthSpinner = new Spinner<>(1, imageWidth, imageWidth);
+        heightSpinner = new Spinner<>(1, imageHeight, imageHeight);
+        for (Spinner<Integer> spinner : List.of(leftSpinner, topSpinner, widthSpinner, heightSpinner)) {
+            spinner.setEditable(true);
+        }
+
+        // Moving an edge shrinks the largest size that still fits
+        leftSpinner.valueProperty().addListener((obs, old, value) ->
+            ((IntegerSpinnerValueFactory) widthSpinner.getValueFactory()).setMax(imageWidth - value));
+        topSpinner.valueProperty().addListener((obs, old, value) ->
+            ((IntegerSpinnerValueFactory) heightSpinner.getValueFactory()).setMax(imageHeight - value));
+
+        GridPane grid = new GridPane();
+        grid.setHgap(10);
+        grid.setVgap(10);
+        grid.setPadding(new Insets(15));
+        grid.addRow(0, new Label("Left (px):"), leftSpinner);
+        grid.addRow(1, new Label("Top (px):"), topSpinner);
+        grid.addRow(2, new Label("Width (px):"), widthSpinner);
+        grid.addRow(3, new Label("Height (px):"), heightSpinner);
+
+        getDialogPane().setContent(grid);
+        getDialogPane().getButtonTypes().addAll(ButtonType.OK, ButtonType.CANCEL);
+
+        setResultConverter(button -> button == ButtonType.OK
+            ? new Settings(leftSpinner.getValue(), topSpinner.getValue(),
+                widthSpinner.getValue(), heightSpinner.getValue())
+            : null);
+    }
+
+    // Chosen crop rectangle
+    public static class Settings {
+        private final int x;
+        private final int y;
+        private final int width;
+        private final int height;
+
+        Settings(int x, int y, int width, int height) {
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+
+        public int getX() { return x; }
+        public int getY() { return y; }
+        public int getWidth() { return width; }
+        public int getHeight() { return height; }
+    }
+}
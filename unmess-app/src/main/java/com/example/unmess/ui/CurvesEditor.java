@@ -0,0 +1,222 @@
+package com.example.unmess.ui;
+
+import com.example.unmess.core.Constants;
+import com.example.unmess.core.ValidationException;
+import com.example.unmess.engine.Curves;
+import javafx.geometry.Pos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Button;
+import javafx.scene.control.ComboBox;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// Interactive curves: click to add a point, drag to move it, right-click to remove it
+public class CurvesEditor extends VBox {
+    
+    private static final double SIZE = 240;
+    private static final double HANDLE_RADIUS = 6;
+    
+    private final Canvas canvas;
+    private final ComboBox<Curves.Channel> channelBox;
+    private final Map<Curves.Channel, List<double[]>> points = new EnumMap<>(Curves.Channel.class);
+    private int dragIndex = -1;
+    private Runnable onChange;
+    
+    public CurvesEditor() {
+        super(6);
+        
+        channelBox = new ComboBox<>();
+        channelBox.getItems().addAll(Curves.Channel.values());
+        channelBox.setValue(Curves.Channel.MASTER);
+        channelBox.setOnAction(e -> draw());
+        
+        Region spacer = new Region();
+        HBox.setHgrow(spacer, Priority.ALWAYS);
+        
+        Button resetBtn = new Button("Reset");
+        resetBtn.setStyle("-fx-font-size: 11px;");
+        resetBtn.setOnAction(e -> {
+            points.put(channelBox.getValue(), identityPoints());
+            changed();
+        });
+        
+        HBox header = new HBox(8, channelBox, spacer, resetBtn);
+        header.setAlignment(Pos.CENTER_LEFT);
+        
+        canvas = new Canvas(SIZE, SIZE);
+        canvas.setOnMousePressed(this::handlePressed);
+        canvas.setOnMouseDragged(this::handleDragged);
+        canvas.setOnMouseReleased(e -> dragIndex = -1);
+        
+        for (Curves.Channel channel : Curves.Channel.values()) {
+            points.put(channel, identityPoints());
+        }
+        
+        getChildren().addAll(header, canvas);
+        draw();
+    }
+    
+    public void setOnChange(Runnable callback) {
+        this.onChange = callback;
+    }
+    
+    // Curves from the points of every channel
+    public Curves getCurves() throws ValidationException {
+        Curves.Builder builder = new Curves.Builder();
+        for (Curves.Channel channel : Curves.Channel.values()) {
+            List<double[]> list = points.get(channel);
+            double[] inputs = new double[list.size()];
+            double[] outputs = new double[list.size()];
+            for (int i = 0; i < list.size(); i++) {
+                inputs[i] = list.get(i)[0];
+                outputs[i] = list.get(i)[1];
+            }
+            builder.points(channel, inputs, outputs);
+        }
+        return builder.build();
+    }
+    
+    public void reset() {
+        for (Curves.Channel channel : Curves.Channel.values()) {
+            points.put(channel, identityPoints());
+        }
+        changed();
+    }
+    
+    private void handlePressed(MouseEvent e) {
+        List<double[]> list = points.get(channelBox.getValue());
+        int hit = findPoint(list, e.getX(), e.getY());
+        
+        if (e.getButton() == MouseButton.SECONDARY) {
+            // End points stay; they define the curve's range
+            if (hit > 0 && hit < list.size() - 1) {
+                list.remove(hit);
+                changed();
+            }
+            return;
+        }
+        if (hit < 0 && list.size() < Constants.CURVE_POINTS_MAX) {
+            double x = toValue(e.getX());
+            int index = 0;
+            while (index < list.size() && list.get(index)[0] < x) {
+                index++;
+            }
+            if (index > 0 && index < list.size() && list.get(index)[0] != x) {
+                list.add(index, new double[] {x, toValue(SIZE - e.getY())});
+                hit = index;
+                changed();
+            }
+        }
+        dragIndex = hit;
+    }
+    
+    private void handleDragged(MouseEvent e) {
+        List<double[]> list = points.get(channelBox.getValue());
+        if (dragIndex < 0 || dragIndex >= list.size()) {
+            return;
+        }
+        // Keep inputs strictly ascending: a point cannot pass its neighbours
+        double min = dragIndex == 0 ? 0 : list.get(dragIndex - 1)[0] + 1;
+        double max = dragIndex == list.size() - 1 ? 255 : list.get(dragIndex + 1)[0] - 1;
+        double[] point = list.get(dragIndex);
+        point[0] = Math.max(min, Math.min(max, toValue(e.getX())));
+        point[1] = toValue(SIZE - e.getY());
+        changed();
+    }
+    
+    private int findPoint(List<double[]> list, double x, double y) {
+        for (int i = 0; i < list.size(); i++) {
+            double[] point = list.get(i);
+            if (Math.abs(toCanvas(point[0]) - x) <= HANDLE_RADIUS
+                    && Math.abs(SIZE - toCanvas(point[1]) - y) <= HANDLE_RADIUS) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    private void changed() {
+        draw();
+        if (onChange != null) {
+            onChange.run();
+        }
+    }
+    
+    private void draw() {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.setFill(Color.web("#ffffff"));
+        gc.fillRect(0, 0, SIZE, SIZE);
+        
+        // Quarter grid and the identity diagonal
+        gc.setStroke(Color.web("#e0e0e0"));
+        gc.setLineWidth(1);
+        for (int i = 1; i < 4; i++) {
+            double p = SIZE * i / 4;
+            gc.strokeLine(p, 0, p, SIZE);
+            gc.strokeLine(0, p, SIZE, p);
+        }
+        gc.strokeLine(0, SIZE, SIZE, 0);
+        
+        Curves.Channel channel = channelBox.getValue();
+        Curves curves;
+        try {
+            curves = getCurves();
+        } catch (ValidationException e) {
+            return;
+        }
+        
+        double[] xs = new double[256];
+        double[] ys = new double[256];
+        for (int i = 0; i < 256; i++) {
+            xs[i] = toCanvas(i);
+            ys[i] = SIZE - toCanvas(curves.map(channel, i));
+        }
+        gc.setStroke(curveColor(channel));
+        gc.setLineWidth(2);
+        gc.strokePolyline(xs, ys, xs.length);
+        
+        gc.setFill(Color.web("#333333"));
+        for (double[] point : points.get(channel)) {
+            gc.fillRect(toCanvas(point[0]) - 3, SIZE - toCanvas(point[1]) - 3, 6, 6);
+        }
+    }
+    
+    private static Color curveColor(Curves.Channel channel) {
+        switch (channel) {
+            case RED:
+                return Color.web("#e53935");
+            case GREEN:
+                return Color.web("#43a047");
+            case BLUE:
+                return Color.web("#1e88e5");
+            default:
+                return Color.web("#333333");
+        }
+    }
+    
+    private static List<double[]> identityPoints() {
+        List<double[]> list = new ArrayList<>();
+        list.add(new double[] {0, 0});
+        list.add(new double[] {255, 255});
+        return list;
+    }
+    
+    private static double toValue(double canvas) {
+        return Math.max(0, Math.min(255, Math.round(canvas * 255 / SIZE)));
+    }
+    
+    private static double toCanvas(double value) {
+        return value * SIZE / 255;
+    }
+}
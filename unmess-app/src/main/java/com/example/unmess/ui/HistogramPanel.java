@@ -0,0 +1,98 @@
+package com.example.unmess.ui;
+
+import com.example.unmess.engine.Histogram;
+import javafx.geometry.Insets;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Label;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+
+// Live RGB and luminance histogram of the displayed frame
+public class HistogramPanel extends VBox {
+    
+    private static final double CANVAS_WIDTH = 300;
+    private static final double CANVAS_HEIGHT = 96;
+    
+    private final Canvas canvas;
+    private Histogram histogram;
+    
+    public HistogramPanel() {
+        super(6);
+        setPadding(new Insets(10, 15, 10, 15));
+        setStyle("-fx-background-color: #ffffff; -fx-border-color: #e0e0e0; -fx-border-width: 0 0 1 0;");
+        
+        // Title
+        Label titleLabel = new Label("HISTOGRAM");
+        titleLabel.setStyle("-fx-text-fill: #333333; -fx-font-weight: bold; -fx-font-size: 11px;");
+        
+        canvas = new Canvas(CANVAS_WIDTH, CANVAS_HEIGHT);
+        getChildren().addAll(titleLabel, canvas);
+        draw();
+    }
+    
+    // Show a new histogram; called on the FX thread once per displayed frame
+    public void setHistogram(Histogram histogram) {
+        this.histogram = histogram;
+        draw();
+    }
+    
+    private void draw() {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        double width = canvas.getWidth();
+        double height = canvas.getHeight();
+        gc.setFill(Color.web("#f5f5f5"));
+        gc.fillRect(0, 0, width, height);
+        if (histogram == null || histogram.getPixelCount() == 0) {
+            return;
+        }
+        
+        // Scale to the tallest bin, ignoring the clipped ends so they don't flatten the rest
+        long peak = 1;
+        for (Histogram.Channel channel : Histogram.Channel.values()) {
+            for (int value = 1; value < Histogram.BINS - 1; value++) {
+                peak = Math.max(peak, histogram.getCount(channel, value));
+            }
+        }
+        
+        fillChannel(gc, Histogram.Channel.RED, Color.rgb(230, 60, 60, 0.45), peak);
+        fillChannel(gc, Histogram.Channel.GREEN, Color.rgb(60, 190, 60, 0.45), peak);
+        fillChannel(gc, Histogram.Channel.BLUE, Color.rgb(60, 110, 230, 0.45), peak);
+        
+        gc.setStroke(Color.web("#333333"));
+        gc.setLineWidth(1);
+        gc.strokePolyline(xs(width), ys(Histogram.Channel.LUMA, height, peak), Histogram.BINS);
+    }
+    
+    private void fillChannel(GraphicsContext gc, Histogram.Channel channel, Color color, long peak) {
+        double width = canvas.getWidth();
+        double height = canvas.getHeight();
+        double[] x = new double[Histogram.BINS + 2];
+        double[] y = new double[Histogram.BINS + 2];
+        System.arraycopy(xs(width), 0, x, 0, Histogram.BINS);
+        System.arraycopy(ys(channel, height, peak), 0, y, 0, Histogram.BINS);
+        x[Histogram.BINS] = width;
+        y[Histogram.BINS] = height;
+        x[Histogram.BINS + 1] = 0;
+        y[Histogram.BINS + 1] = height;
+        gc.setFill(color);
+        gc.fillPolygon(x, y, x.length);
+    }
+    
+    private static double[] xs(double width) {
+        double[] x = new double[Histogram.BINS];
+        for (int value = 0; value < Histogram.BINS; value++) {
+            x[value] = value * width / (Histogram.BINS - 1);
+        }
+        return x;
+    }
+    
+    private double[] ys(Histogram.Channel channel, double height, long peak) {
+        double[] y = new double[Histogram.BINS];
+        for (int value = 0; value < Histogram.BINS; value++) {
+            double fraction = Math.min(1.0, histogram.getCount(channel, value) / (double) peak);
+            y[value] = height - fraction * (height - 2);
+        }
+        return y;
+    }
+}
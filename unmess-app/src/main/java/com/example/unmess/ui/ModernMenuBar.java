@@ -159,11 +159,17 @@ public class ModernMenuBar extends HBox {
         
         MenuItem adjustmentsItem = createMenuItem("Adjustments", "");
         MenuItem autoToneItem = createMenuItem("Auto Tone", "Ctrl+L");
+        autoToneItem.setOnAction(e -> handleAction("autoTone"));
         MenuItem autoContrastItem = createMenuItem("Auto Contrast", "Ctrl+Alt+L");
+        autoContrastItem.setOnAction(e -> handleAction("autoContrast"));
         MenuItem autoColorItem = createMenuItem("Auto Color", "Ctrl+Shift+L");
+        autoColorItem.setOnAction(e -> handleAction("autoColor"));
         MenuItem resizeItem = createMenuItem("Resize...", "Ctrl+Alt+I");
+        resizeItem.setOnAction(e -> handleAction("resize"));
         MenuItem cropItem = createMenuItem("Crop", "C");
+        cropItem.setOnAction(e -> handleAction("crop"));
         MenuItem rotateItem = createMenuItem("Rotate...", "");
+        rotateItem.setOnAction(e -> handleAction("rotate"));
         
         menu.getItems().addAll(
             adjustmentsItem, new SeparatorMenuItem(),
@@ -187,11 +193,17 @@ public class ModernMenuBar extends HBox {
         MenuItem invertItem = createMenuItem("Invert", "Ctrl+I");
         invertItem.setOnAction(e -> handleAction("invert"));
         MenuItem noiseItem = createMenuItem("Noise Reduction", "");
+        noiseItem.setOnAction(e -> handleAction("noiseReduction"));
+        MenuItem despeckleItem = createMenuItem("Despeckle", "");
+        despeckleItem.setOnAction(e -> handleAction("despeckle"));
+        MenuItem lutItem = createMenuItem("Apply LUT...", "");
+        lutItem.setOnAction(e -> handleAction("applyLut"));
         
         menu.getItems().addAll(
             blurItem, sharpenItem, new SeparatorMenuItem(),
             grayscaleItem, sepiaItem, invertItem, new SeparatorMenuItem(),
-            noiseItem
+            noiseItem, despeckleItem, new SeparatorMenuItem(),
+            lutItem
         );
         
         btn.setOnAction(e -> menu.show(btn, javafx.geometry.Side.BOTTOM, 0, 0));
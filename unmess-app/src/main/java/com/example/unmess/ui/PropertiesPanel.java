@@ -0,0 +1,202 @@
+package com.example.unmess.ui;
+
+import com.example.unmess.core.Logger;
+import com.example.unmess.core.MetricsRegistry;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.*;
+import javafx.scene.layout.*;
+import javafx.stage.FileChooser;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.function.Function;
+
+// Photoshop-style properties/adjustments panel
+public class PropertiesPanel extends VBox {
+    
+    private Accordion accordion;
+    private TableView<MetricsRegistry.Snapshot> metricsTable;
+    
+    public PropertiesPanel() {
+        super(5);
+        setPadding(new Insets(10));
+        setStyle("-fx-background-color: #ffffff;");
+        
+        // Title
+        Label titleLabel = new Label("PROPERTIES");
+        titleLabel.setStyle("-fx-text-fill: #333333; -fx-font-weight: bold; -fx-font-size: 11px;");
+        
+        accordion = new Accordion();
+        accordion.setStyle("-fx-background-color: #ffffff;");
+        
+        // Image info section
+        TitledPane infoPane = createInfoSection();
+        
+        // History section
+        TitledPane historyPane = createHistorySection();
+        
+        // Per-operation performance metrics
+        TitledPane performancePane = createPerformanceSection();
+        
+        accordion.getPanes().addAll(infoPane, historyPane, performancePane);
+        accordion.setExpandedPane(infoPane);
+        
+        VBox.setVgrow(accordion, Priority.ALWAYS);
+        getChildren().addAll(titleLabel, accordion);
+    }
+    
+    private TitledPane createInfoSection() {
+        VBox content = new VBox(8);
+        content.setPadding(new Insets(10));
+        content.setStyle("-fx-background-color: #fafafa;");
+        
+        content.getChildren().addAll(
+            createInfoRow("Dimensions:", "0 x 0 px"),
+            createInfoRow("File Size:", "0 KB"),
+            createInfoRow("Color Mode:", "RGB"),
+            createInfoRow("Bit Depth:", "8 bit"),
+            createInfoRow("Resolution:", "72 ppi")
+        );
+        
+        TitledPane pane = new TitledPane("Image Info", content);
+        pane.setStyle("-fx-text-fill: #333333;");
+        return pane;
+    }
+    
+    private TitledPane createHistorySection() {
+        VBox content = new VBox(5);
+        content.setPadding(new Insets(10));
+        content.setStyle("-fx-background-color: #fafafa;");
+        
+        ListView<String> historyList = new ListView<>();
+        historyList.getItems().addAll("Open", "Brightness +0.2", "Contrast +0.1");
+        historyList.setPrefHeight(150);
+        historyList.setStyle(
+            "-fx-background-color: #1e1e1e; " +
+            "-fx-border-color: #3e3e42; " +
+            "-fx-border-width: 1;"
+        );
+        
+        content.getChildren().add(historyList);
+        
+        TitledPane pane = new TitledPane("History", content);
+        pane.setStyle("-fx-text-fill: #333333;");
+        return pane;
+    }
+    
+    private TitledPane createPerformanceSection() {
+        VBox content = new VBox(5);
+        content.setPadding(new Insets(10));
+        content.setStyle("-fx-background-color: #fafafa;");
+        
+        metricsTable = new TableView<>();
+        metricsTable.setPrefHeight(200);
+        metricsTable.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
+        metricsTable.setPlaceholder(new Label("No operations recorded"));
+        metricsTable.getColumns().add(createTextColumn("Operation", MetricsRegistry.Snapshot::getOperation));
+        metricsTable.getColumns().add(createNumberColumn("Calls", s -> String.valueOf(s.getCount())));
+        metricsTable.getColumns().add(createNumberColumn("p50", s -> formatMillis(s.getP50Ms())));
+        metricsTable.getColumns().add(createNumberColumn("p95", s -> formatMillis(s.getP95Ms())));
+        metricsTable.getColumns().add(createNumberColumn("p99", s -> formatMillis(s.getP99Ms())));
+        metricsTable.getColumns().add(createNumberColumn("Max", s -> formatMillis(s.getMaxMs())));
+        metricsTable.getColumns().add(createNumberColumn("MP/s",
+            s -> String.format("%.1f", s.getMegapixelsPerSecond())));
+        metricsTable.getColumns().add(createNumberColumn("Alloc",
+            s -> s.getBytesAllocatedPerCall() < 0 ? "n/a"
+                : String.format("%.1f MB", s.getBytesAllocatedPerCall() / (1024.0 * 1024.0))));
+        
+        Button refreshButton = new Button("Refresh");
+        refreshButton.setOnAction(e -> refreshMetrics());
+        
+        Button exportButton = new Button("Export...");
+        exportButton.setOnAction(e -> exportMetrics());
+        
+        Button resetButton = new Button("Reset");
+        resetButton.setOnAction(e -> {
+            MetricsRegistry.reset();
+            refreshMetrics();
+        });
+        
+        HBox buttons = new HBox(5, refreshButton, exportButton, resetButton);
+        buttons.setAlignment(Pos.CENTER_RIGHT);
+        
+        content.getChildren().addAll(metricsTable, buttons);
+        
+        TitledPane pane = new TitledPane("Performance", content);
+        pane.setStyle("-fx-text-fill: #333333;");
+        pane.expandedProperty().addListener((obs, wasExpanded, expanded) -> {
+            if (expanded) {
+                refreshMetrics();
+            }
+        });
+        return pane;
+    }
+    
+    private TableColumn<MetricsRegistry.Snapshot, String> createTextColumn(
+            String title, Function<MetricsRegistry.Snapshot, String> value) {
+        TableColumn<MetricsRegistry.Snapshot, String> column = new TableColumn<>(title);
+        column.setCellValueFactory(cell -> new ReadOnlyStringWrapper(value.apply(cell.getValue())));
+        return column;
+    }
+    
+    private TableColumn<MetricsRegistry.Snapshot, String> createNumberColumn(
+            String title, Function<MetricsRegistry.Snapshot, String> value) {
+        TableColumn<MetricsRegistry.Snapshot, String> column = createTextColumn(title, value);
+        column.setStyle("-fx-alignment: CENTER-RIGHT; -fx-font-family: monospace;");
+        return column;
+    }
+    
+    private String formatMillis(double millis) {
+        return String.format("%.1f ms", millis);
+    }
+    
+    private void exportMetrics() {
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Export Metrics");
+        fileChooser.setInitialFileName("unmess-metrics.jsonl");
+        fileChooser.getExtensionFilters().add(
+            new FileChooser.ExtensionFilter("JSON Lines", "*.jsonl"));
+        
+        File file = fileChooser.showSaveDialog(getScene().getWindow());
+        if (file == null) {
+            return;
+        }
+        
+        try {
+            MetricsRegistry.dump(file.toPath());
+        } catch (IOException e) {
+            Logger.error("Failed to export metrics", e);
+            Alert alert = new Alert(Alert.AlertType.ERROR);
+            alert.setTitle("Error");
+            alert.setHeaderText(null);
+            alert.setContentText("Failed to export metrics: " + e.getMessage());
+            alert.showAndWait();
+        }
+    }
+    
+    private HBox createInfoRow(String label, String value) {
+        HBox row = new HBox(10);
+        row.setAlignment(Pos.CENTER_LEFT);
+        
+        Label labelNode = new Label(label);
+        labelNode.setStyle("-fx-text-fill: #888888; -fx-font-size: 11px;");
+        labelNode.setPrefWidth(90);
+        
+        Label valueNode = new Label(value);
+        valueNode.setStyle("-fx-text-fill: #333333; -fx-font-size: 11px; -fx-font-family: monospace;");
+        
+        row.getChildren().addAll(labelNode, valueNode);
+        return row;
+    }
+    
+    // Reload the performance table from the metrics registry
+    public void refreshMetrics() {
+        metricsTable.getItems().setAll(MetricsRegistry.snapshot());
+    }
+    
+    public void updateImageInfo(int width, int height, long fileSize) {
+        // Update info display (implementation for dynamic updates)
+    }
+}
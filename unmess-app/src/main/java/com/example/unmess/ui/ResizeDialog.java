@@ -0,0 +1,105 @@
+package com.example.unmess.ui;
+
+import com.example.unmess.core.Constants;
+import com.example.unmess.engine.ResampleFilter;
+import javafx.geometry.Insets;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.ComboBox;
+import javafx.scene.control.Dialog;
+import javafx.scene.control.Label;
+import javafx.scene.control.Spinner;
+import javafx.scene.layout.GridPane;
+
+// Image size dialog: pixel dimensions with an optional aspect lock, resampling filter and linear light
+public class ResizeDialog extends Dialog<ResizeDialog.Settings> {
+
+    private final int originalWidth;
+    private final int originalHeight;
+    private final Spinner<Integer> widthSpinner;
+    private final Spinner<Integer> heightSpinner;
+    private final CheckBox constrainCheck;
+    private final ComboBox<ResampleFilter> filterBox;
+    private final CheckBox linearLightCheck;
+    private boolean syncing;
+
+    public ResizeDialog(int width, int height) {
+        this.originalWidth = width;
+        this.originalHeight = height;
+
+        setTitle("Resize - Unmess");
+        setHeaderText("Current size: " + width + " x " + height + " px");
+
+        widthSpinner = new Spinner<>(1, Constants.MAX_IMAGE_WIDTH, width);
+        heightSpinner = new Spinner<>(1, Constants.MAX_IMAGE_HEIGHT, height);
+        widthSpinner.setEditable(true);
+        heightSpinner.setEditable(true);
+
+        constrainCheck = new CheckBox("Constrain proportions");
+        constrainCheck.setSelected(true);
+
+        // Lanczos suits photographs; nearest neighbor keeps pixel art crisp
+        filterBox = new ComboBox<>();
+        filterBox.getItems().addAll(ResampleFilter.values());
+        filterBox.setValue(ResampleFilter.LANCZOS3);
+
+        linearLightCheck = new CheckBox("Resample in linear light");
+        linearLightCheck.setStyle("-fx-font-size: 11px; -fx-text-fill: #666666;");
+
+        // Keep the other dimension in proportion; the flag stops the two listeners feeding each other
+        widthSpinner.valueProperty().addListener((obs, old, value) -> {
+            if (!syncing && constrainCheck.isSelected()) {
+                sync(heightSpinner, value * (double) originalHeight / originalWidth);
+            }
+        });
+        heightSpinner.valueProperty().addListener((obs, old, value) -> {
+            if (!syncing && constrainCheck.isSelected()) {
+                sync(widthSpinner, value * (double) originalWidth / originalHeight);
+            }
+        });
+
+        GridPane grid = new GridPane();
+        grid.setHgap(10);
+        grid.setVgap(10);
+        grid.setPadding(new Insets(15));
+        grid.addRow(0, new Label("Width (px):"), widthSpinner);
+        grid.addRow(1, new Label("Height (px):"), heightSpinner);
+        grid.add(constrainCheck, 1, 2);
+        grid.addRow(3, new Label("Resample:"), filterBox);
+        grid.add(linearLightCheck, 1, 4);
+
+        getDialogPane().setContent(grid);
+        getDialogPane().getButtonTypes().addAll(ButtonType.OK, ButtonType.CANCEL);
+
+        setResultConverter(button -> button == ButtonType.OK
+            ? new Settings(widthSpinner.getValue(), heightSpinner.getValue(),
+                filterBox.getValue(), linearLightCheck.isSelected())
+            : null);
+    }
+
+    private void sync(Spinner<Integer> spinner, double value) {
+        syncing = true;
+        spinner.getValueFactory().setValue((int) Math.max(1, Math.round(value)));
+        syncing = false;
+    }
+
+    // Chosen output size and resampling
+    public static class Settings {
+        private final int width;
+        private final int height;
+        private final ResampleFilter filter;
+        private final boolean linearLight;
+
+        Settings(int width, int height, ResampleFilter filter, boolean linearLight) {
+            this.width = width;
+            this.height = height;
+            this.filter = filter;
+            this.linearLight = linearLight;
+        }
+
+        public int getWidth() { return width; }
+        public int getHeight() { return height; }
+        public ResampleFilter getFilter() { return filter; }
+        public boolean isLinearLight() { return linearLight; }
+    }
+}
@@ -10,6 +10,7 @@ import javafx.scene.layout.*;
 public class RightPanel extends VBox {
     
     private TabPane tabPane;
+    private HistogramPanel histogramPanel;
     private AdjustmentsPanel adjustmentsPanel;
     private LayersPanel layersPanel;
     private PropertiesPanel propertiesPanel;
@@ -52,8 +53,11 @@ public class RightPanel extends VBox {
         tabPane.getTabs().addAll(adjustTab, layersTab, historyTab, propsTab);
         tabPane.getSelectionModel().select(adjustTab);
         
+        // Histogram stays visible above the tabs
+        histogramPanel = new HistogramPanel();
+        
         VBox.setVgrow(tabPane, Priority.ALWAYS);
-        getChildren().add(tabPane);
+        getChildren().addAll(histogramPanel, tabPane);
     }
     
     private Tab createTab(String text, javafx.scene.Node icon) {
@@ -73,6 +77,10 @@ public class RightPanel extends VBox {
         return tab;
     }
     
+    public HistogramPanel getHistogramPanel() {
+        return histogramPanel;
+    }
+    
     public AdjustmentsPanel getAdjustmentsPanel() {
         return adjustmentsPanel;
     }
@@ -0,0 +1,68 @@
+package com.example.unmess.ui;
+
+import com.example.unmess.core.Constants;
+import com.example.unmess.engine.ResampleFilter;
+import javafx.geometry.Insets;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.ComboBox;
+import javafx.scene.control.Dialog;
+import javafx.scene.control.Label;
+import javafx.scene.control.Spinner;
+import javafx.scene.layout.GridPane;
+
+// Arbitrary-angle rotation dialog: angle in tenths of a degree, sampling and canvas handling
+public class RotateDialog extends Dialog<RotateDialog.Settings> {
+
+    private final Spinner<Double> angleSpinner;
+    private final ComboBox<ResampleFilter> filterBox;
+    private final CheckBox expandCheck;
+
+    public RotateDialog() {
+        setTitle("Rotate - Unmess");
+        setHeaderText("Positive angles rotate clockwise");
+
+        angleSpinner = new Spinner<>(Constants.ROTATION_MIN, Constants.ROTATION_MAX, 0.0, 0.1);
+        angleSpinner.setEditable(true);
+
+        // The warp engine samples with these three; bicubic keeps straightened photos sharp
+        filterBox = new ComboBox<>();
+        filterBox.getItems().addAll(ResampleFilter.NEAREST, ResampleFilter.BILINEAR, ResampleFilter.BICUBIC);
+        filterBox.setValue(ResampleFilter.BICUBIC);
+
+        expandCheck = new CheckBox("Enlarge canvas to fit");
+        expandCheck.setSelected(true);
+
+        GridPane grid = new GridPane();
+        grid.setHgap(10);
+        grid.setVgap(10);
+        grid.setPadding(new Insets(15));
+        grid.addRow(0, new Label("Angle (°):"), angleSpinner);
+        grid.addRow(1, new Label("Resample:"), filterBox);
+        grid.add(expandCheck, 1, 2);
+
+        getDialogPane().setContent(grid);
+        getDialogPane().getButtonTypes().addAll(ButtonType.OK, ButtonType.CANCEL);
+
+        setResultConverter(button -> button == ButtonType.OK
+            ? new Settings(angleSpinner.getValue(), filterBox.getValue(), expandCheck.isSelected())
+            : null);
+    }
+
+    // Chosen rotation
+    public static class Settings {
+        private final double degrees;
+        private final ResampleFilter filter;
+        private final boolean expand;
+
+        Settings(double degrees, ResampleFilter filter, boolean expand) {
+            this.degrees = degrees;
+            this.filter = filter;
+            this.expand = expand;
+        }
+
+        public double getDegrees() { return degrees; }
+        public ResampleFilter getFilter() { return filter; }
+        public boolean isExpand() { return expand; }
+    }
+}
@@ -5,6 +5,8 @@ module com.example.unmess {
     requires javafx.swing;
     requires java.desktop;
 
+    requires com.example.unmess.core;
+
     requires org.controlsfx.controls;
     requires com.dlsc.formsfx;
     requires net.synedra.validatorfx;
@@ -16,8 +18,6 @@ module com.example.unmess {
 
     opens com.example.unmess to javafx.fxml;
     exports com.example.unmess;
-    exports com.example.unmess.core;
-    exports com.example.unmess.engine;
-    exports com.example.unmess.model;
+    exports com.example.unmess.fx;
     exports com.example.unmess.ui;
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+package com.example.unmess.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+
+/**
+ * Runs the engine benchmarks once per thread count and writes one
+ * machine-readable JSON result file per run, for release-to-release
+ * regression tracking.
+ *
+ * System properties:
+ * - unmess.bench.threads   comma-separated thread counts (default: 1,2,4,available cores)
+ * - unmess.bench.include   benchmark regex (default: all engine benchmarks)
+ * - unmess.bench.sizes     comma-separated megapixel sizes (default: 1,4,16,64)
+ * - unmess.bench.output    output directory (default: jmh-results)
+ *
+ * Output: {@code <output>/unmess-<threads>t.json}
+ *
+ * @author Photo Editor Engineering Team
+ * @version 1.0.0
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+        throw new AssertionError("Utility class cannot be instantiated");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        String include = System.getProperty("unmess.bench.include",
+            BenchmarkRunner.class.getPackageName() + ".*Benchmark");
+        String sizes = System.getProperty("unmess.bench.sizes", "1,4,16,64");
+        File outputDir = new File(System.getProperty("unmess.bench.output", "jmh-results"));
+        if (!outputDir.isDirectory() && !outputDir.mkdirs()) {
+            throw new IllegalStateException("Cannot create output directory: " + outputDir);
+        }
+
+        for (int threads : threadCounts()) {
+            File result = new File(outputDir, "unmess-" + threads + "t.json");
+
+            ChainedOptionsBuilder options = new OptionsBuilder()
+                .include(include)
+                .param("megapixels", sizes.split(","))
+                .threads(threads)
+                .resultFormat(ResultFormatType.JSON)
+                .result(result.getPath());
+
+            new Runner(options.build()).run();
+            System.out.println("Results written to " + result.getAbsolutePath());
+        }
+    }
+
+    private static int[] threadCounts() {
+        String configured = System.getProperty("unmess.bench.threads");
+        if (configured != null && !configured.isBlank()) {
+            String[] parts = configured.split(",");
+            int[] counts = new int[parts.length];
+            for (int i = 0; i < parts.length; i++) {
+                counts[i] = Integer.parseInt(parts[i].trim());
+            }
+            return counts;
+        }
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        return cores > 4 ? new int[] {1, 2, 4, cores} : new int[] {1, 2, 4};
+    }
+}
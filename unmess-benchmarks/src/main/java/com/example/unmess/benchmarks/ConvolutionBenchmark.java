@@ -0,0 +1,60 @@
+package com.example.unmess.benchmarks;
+
+import com.example.unmess.core.ValidationException;
+import com.example.unmess.engine.ImageProcessorV2;
+import com.example.unmess.engine.Raster;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Neighbourhood filters: Gaussian blur across radii, sharpen, median and
+ * clarity.
+ *
+ * Blur cost grows with the kernel, so these run as single-shot
+ * measurements to keep large radii on 64 MP inputs tractable. Median and
+ * clarity (at ten times the radius) should cost the same at every radius.
+ *
+ * @author Photo Editor Engineering Team
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx12g"})
+@State(Scope.Benchmark)
+public class ConvolutionBenchmark {
+
+    @Param({"1", "3", "5", "10"})
+    public int radius;
+
+    @Benchmark
+    public Raster gaussianBlur(ImageFixture fixture) throws ValidationException {
+        return ImageProcessorV2.gaussianBlur(fixture.image, radius);
+    }
+
+    @Benchmark
+    public Raster sharpen(ImageFixture fixture) throws ValidationException {
+        return ImageProcessorV2.sharpen(fixture.image, radius * 0.3);
+    }
+
+    @Benchmark
+    public Raster median(ImageFixture fixture) throws ValidationException {
+        return ImageProcessorV2.median(fixture.image, radius);
+    }
+
+    @Benchmark
+    public Raster clarity(ImageFixture fixture) throws ValidationException {
+        return ImageProcessorV2.clarity(fixture.image, 0.5, radius * 10);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.unmess.benchmarks;
+
+import com.example.unmess.core.ValidationException;
+import com.example.unmess.engine.ImageProcessorV2;
+import com.example.unmess.engine.Raster;
+import com.example.unmess.engine.RasterPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Guided-filter noise reduction across strengths.
+ *
+ * The filter radius is fixed and strength only changes eps, so time per
+ * megapixel (score divided by the {@code megapixels} parameter) should be
+ * flat across strengths and across image sizes. {@code lumaOnly} and
+ * {@code chromaOnly} split the cost between the two halves of the filter.
+ *
+ * @author Photo Editor Engineering Team
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx12g"})
+@State(Scope.Benchmark)
+public class DenoiseBenchmark {
+
+    @Param({"0.25", "0.5", "1.0"})
+    public double strength;
+
+    @Benchmark
+    public void denoise(ImageFixture fixture, Blackhole blackhole) throws ValidationException {
+        consume(ImageProcessorV2.reduceNoise(fixture.image, strength), blackhole);
+    }
+
+    @Benchmark
+    public void lumaOnly(ImageFixture fixture, Blackhole blackhole) throws ValidationException {
+        consume(ImageProcessorV2.reduceNoise(fixture.image, strength, 0.0), blackhole);
+    }
+
+    @Benchmark
+    public void chromaOnly(ImageFixture fixture, Blackhole blackhole) throws ValidationException {
+        consume(ImageProcessorV2.reduceNoise(fixture.image, 0.0, strength), blackhole);
+    }
+
+    private static void consume(Raster result, Blackhole blackhole) {
+        blackhole.consume(result.getArgb(0, 0));
+        RasterPool.release(result);
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.unmess.benchmarks;
+
+import com.example.unmess.core.ValidationException;
+import com.example.unmess.engine.ImageProcessorV2;
+import com.example.unmess.engine.ProjectiveTransform;
+import com.example.unmess.engine.Raster;
+import com.example.unmess.engine.ResampleFilter;
+import com.example.unmess.model.ImageState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pixel-moving operations: rotate90, arbitrary rotation and warps, flip,
+ * resize, crop and ImageState.cloneImage.
+ *
+ * The straighten benchmarks rotate by {@value #STRAIGHTEN_DEGREES} degrees
+ * on the original canvas, the typical horizon fix. The canvas is not
+ * enlarged because the expanded bounds of the 64 MP fixture would exceed
+ * the engine's maximum image size. {@code warpPerspective} adds the
+ * per-pixel division of a keystone correction.
+ *
+ * {@code crop} keeps the central quarter as a view and should stay flat
+ * across fixture sizes; {@code cropCompact} adds the copy a dense crop
+ * would cost.
+ *
+ * The resize benchmarks scale the fixture to a 2 MP square
+ * ({@value #TARGET_SIDE} px), a reduction of 8x in area at 16 MP and 32x
+ * at 64 MP (an enlargement at 1 MP); {@code resizeLinear} repeats the
+ * Lanczos case in linear light.
+ *
+ * @author Photo Editor Engineering Team
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx12g"})
+public class GeometryBenchmark {
+
+    private static final int TARGET_SIDE = 1448;
+    private static final double STRAIGHTEN_DEGREES = 3.5;
+
+    @Benchmark
+    public Raster rotateClockwise(ImageFixture fixture) throws ValidationException {
+        return ImageProcessorV2.rotate90(fixture.image, true);
+    }
+
+    @Benchmark
+    public Raster straightenNearest(ImageFixture fixture) throws ValidationException {
+        return ImageProcessorV2.rotate(fixture.image, STRAIGHTEN_DEGREES, ResampleFilter.NEAREST, false);
+    }
+
+    @Benchmark
+    public Raster straightenBilinear(ImageFixture fixture) throws ValidationException {
+        return ImageProcessorV2.rotate(fixture.image, STRAIGHTEN_DEGREES, ResampleFilter.BILINEAR, false);
+    }
+
+    @Benchmark
+    public Raster straightenBicubic(ImageFixture fixture) throws ValidationException {
+        return ImageProcessorV2.rotate(fixture.image, STRAIGHTEN_DEGREES, ResampleFilter.BICUBIC, false);
+    }
+
+    @Benchmark
+    public Raster warpPerspective(ImageFixture fixture) throws ValidationException {
+        Raster image = fixture.image;
+        // Mild keystone: the homogeneous weight changes by 20% from top to bottom
+        double inset = 0.1 / image.getHeight();
+        ProjectiveTransform keystone = ProjectiveTransform.of(new double[] {
+            1, 0, 0,
+            0, 1, 0,
+            0, -2 * inset, 1 + inset * image.getHeight()});
+        return ImageProcessorV2.warp(image, keystone, image.getWidth(), image.getHeight(),
+            ResampleFilter.BILINEAR);
+    }
+
+    @Benchmark
+    public Raster flipHorizontal(ImageFixture fixture) throws ValidationException {
+        return ImageProcessorV2.flip(fixture.image, true);
+    }
+
+    @Benchmark
+    public Raster flipVertical(ImageFixture fixture) throws ValidationException {
+        return ImageProcessorV2.flip(fixture.image, false);
+    }
+
+    @Benchmark
+    public Raster resizeNearest(ImageFixture fixture) throws ValidationException {
+        return ImageProcessorV2.resize(fixture.image, TARGET_SIDE, TARGET_SIDE, ResampleFilter.NEAREST);
+    }
+
+    @Benchmark
+    public Raster resizeBilinear(ImageFixture fixture) throws ValidationException {
+        return ImageProcessorV2.resize(fixture.image, TARGET_SIDE, TARGET_SIDE, ResampleFilter.BILINEAR);
+    }
+
+    @Benchmark
+    public Raster resizeLanczos(ImageFixture fixture) throws ValidationException {
+        return ImageProcessorV2.resize(fixture.image, TARGET_SIDE, TARGET_SIDE, ResampleFilter.LANCZOS3);
+    }
+
+    @Benchmark
+    public Raster resizeLinear(ImageFixture fixture) throws ValidationException {
+        return ImageProcessorV2.resize(fixture.image, TARGET_SIDE, TARGET_SIDE, ResampleFilter.LANCZOS3, true);
+    }
+
+    @Benchmark
+    public Raster resizeArea(ImageFixture fixture) throws ValidationException {
+        return ImageProcessorV2.resize(fixture.image, TARGET_SIDE, TARGET_SIDE, ResampleFilter.AREA);
+    }
+
+    @Benchmark
+    public Raster crop(ImageFixture fixture) throws ValidationException {
+        Raster image = fixture.image;
+        return ImageProcessorV2.crop(image, image.getWidth() / 4, image.getHeight() / 4,
+            image.getWidth() / 2, image.getHeight() / 2);
+    }
+
+    @Benchmark
+    public Raster cropCompact(ImageFixture fixture) throws ValidationException {
+        return crop(fixture).compact();
+    }
+
+    @Benchmark
+    public Raster cloneImage(ImageFixture fixture) {
+        return ImageState.cloneImage(fixture.image);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.unmess.benchmarks;
+
+import com.example.unmess.engine.DirtyRegion;
+import com.example.unmess.engine.Histogram;
+import com.example.unmess.engine.TiledHistogram;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Histogram cost of a displayed frame.
+ *
+ * {@code full} is a from-scratch count of every pixel; {@code fullFrame}
+ * is the tiled update after a global adjustment, and {@code brushStroke}
+ * the tiled update after a 256 x 256 local edit, which should stay flat
+ * across image sizes.
+ *
+ * {@link TiledHistogram} is not thread-safe, so every benchmark thread
+ * keeps its own (thread-scoped state).
+ *
+ * @author Photo Editor Engineering Team
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx12g"})
+@State(Scope.Thread)
+public class HistogramBenchmark {
+
+    private TiledHistogram tiled;
+    private DirtyRegion everything;
+    private DirtyRegion stroke;
+
+    @Setup(Level.Trial)
+    public void setUp(ImageFixture fixture) {
+        tiled = new TiledHistogram();
+        tiled.update(fixture.image, DirtyRegion.full(fixture.image.getWidth(), fixture.image.getHeight()));
+        everything = DirtyRegion.full(fixture.image.getWidth(), fixture.image.getHeight());
+        // Unaligned, so it touches four tiles like a typical stroke
+        stroke = DirtyRegion.of(300, 300, 256, 256);
+    }
+
+    @Benchmark
+    public Histogram full(ImageFixture fixture) {
+        return Histogram.of(fixture.image);
+    }
+
+    @Benchmark
+    public Histogram fullFrame(ImageFixture fixture) {
+        tiled.update(fixture.image, everything);
+        return tiled.snapshot();
+    }
+
+    @Benchmark
+    public Histogram brushStroke(ImageFixture fixture) {
+        tiled.update(fixture.image, stroke);
+        return tiled.snapshot();
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.unmess.benchmarks;
+
+import com.example.unmess.core.Logger;
+import com.example.unmess.engine.Raster;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+
+/**
+ * Shared benchmark input: a square image of the requested size filled
+ * with reproducible noise, so no operation can take a uniform-color shortcut.
+ *
+ * Sizes are in megapixels (1 MP = 1024 x 1024). 64 MP is the largest image
+ * accepted by the engine (Constants.MAX_IMAGE_WIDTH x MAX_IMAGE_HEIGHT).
+ *
+ * @author Photo Editor Engineering Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+public class ImageFixture {
+
+    private static final long SEED = 0x5EEDL;
+
+    @Param({"1", "4", "16", "64"})
+    public int megapixels;
+
+    public Raster image;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Logger.setLevel(Logger.Level.WARNING);
+
+        int side = (int) Math.round(Math.sqrt(megapixels) * 1024);
+        image = new Raster(side, side);
+
+        SplittableRandom random = new SplittableRandom(SEED);
+        int[] pixels = image.getPixels();
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = 0xFF000000 | random.nextInt(0x1000000);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.unmess.benchmarks;
+
+import com.example.unmess.core.Constants;
+import com.example.unmess.core.ValidationException;
+import com.example.unmess.engine.ColorLut3D;
+import com.example.unmess.engine.ImageProcessorV2;
+import com.example.unmess.engine.Raster;
+import com.example.unmess.engine.RasterPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-pixel color operations: brightness, contrast, saturation, hue,
+ * vibrance, grayscale, sepia and invert.
+ *
+ * {@code brightnessPooled} releases its result like the interactive preview
+ * does, measuring the steady state with recycled buffers.
+ *
+ * {@code sepiaLut} and {@code basicLut} apply the same looks as baked
+ * 33^3 3D LUTs, for comparison with the direct operations.
+ *
+ * Brightness and contrast are exact 256-entry tables; saturation, sepia
+ * and grayscale are Q12/Q16 fixed point on packed pixels.
+ *
+ * Hue, saturation, sepia, vibrance and 3D LUTs run on Vector API lanes; append
+ * {@code -jvmArgsAppend -Dunmess.vector=false} to measure the scalar path.
+ *
+ * @author Photo Editor Engineering Team
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx12g", "--add-modules=jdk.incubator.vector"})
+public class PointOperationBenchmark {
+
+    @Benchmark
+    public Raster brightness(ImageFixture fixture) throws ValidationException {
+        return ImageProcessorV2.adjustBrightness(fixture.image, 0.2);
+    }
+
+    @Benchmark
+    public void brightnessPooled(ImageFixture fixture, Blackhole blackhole) throws ValidationException {
+        Raster result = ImageProcessorV2.adjustBrightness(fixture.image, 0.2);
+        blackhole.consume(result.getArgb(0, 0));
+        RasterPool.release(result);
+    }
+
+    @Benchmark
+    public Raster contrast(ImageFixture fixture) throws ValidationException {
+        return ImageProcessorV2.adjustContrast(fixture.image, 0.2);
+    }
+
+    @Benchmark
+    public Raster saturation(ImageFixture fixture) throws ValidationException {
+        return ImageProcessorV2.adjustSaturation(fixture.image, 0.2);
+    }
+
+    @Benchmark
+    public Raster hue(ImageFixture fixture) throws ValidationException {
+        return ImageProcessorV2.rotateHue(fixture.image, 30);
+    }
+
+    @Benchmark
+    public Raster hueExact(ImageFixture fixture) throws ValidationException {
+        return ImageProcessorV2.rotateHue(fixture.image, 30, true);
+    }
+
+    @Benchmark
+    public Raster vibrance(ImageFixture fixture) throws ValidationException {
+        return ImageProcessorV2.adjustVibrance(fixture.image, 0.5);
+    }
+
+    @Benchmark
+    public Raster grayscale(ImageFixture fixture) throws ValidationException {
+        return ImageProcessorV2.toGrayscale(fixture.image);
+    }
+
+    @Benchmark
+    public Raster sepia(ImageFixture fixture) throws ValidationException {
+        return ImageProcessorV2.sepiaTone(fixture.image);
+    }
+
+    @Benchmark
+    public Raster invert(ImageFixture fixture) throws ValidationException {
+        return ImageProcessorV2.invert(fixture.image);
+    }
+
+    @Benchmark
+    public Raster sepiaLut(ImageFixture fixture, Luts luts) throws ValidationException {
+        return ImageProcessorV2.applyLut3D(fixture.image, luts.sepia);
+    }
+
+    @Benchmark
+    public Raster basicLut(ImageFixture fixture, Luts luts) throws ValidationException {
+        return ImageProcessorV2.applyLut3D(fixture.image, luts.basic);
+    }
+
+    /**
+     * Baked lattices, built once per trial
+     */
+    @State(Scope.Benchmark)
+    public static class Luts {
+        ColorLut3D sepia;
+        ColorLut3D basic;
+
+        @Setup(Level.Trial)
+        public void setUp() throws ValidationException {
+            sepia = ColorLut3D.sepia(Constants.LUT3D_DEFAULT_SIZE);
+            basic = ColorLut3D.basicAdjustments(Constants.LUT3D_DEFAULT_SIZE, 0.1, 0.2, 0.3);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.unmess.benchmarks;
+
+import com.example.unmess.core.ValidationException;
+import com.example.unmess.engine.FloatRaster;
+import com.example.unmess.engine.ImageProcessorV2;
+import com.example.unmess.engine.Raster;
+import com.example.unmess.engine.RasterPool;
+import com.example.unmess.engine.ToneCurve;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 8-bit versus float32 pipelines for the same adjustments.
+ *
+ * {@code chain8} runs brightness, contrast and saturation on packed rasters,
+ * rounding after every stage; {@code chainFloat} widens once, runs the
+ * same three stages in place on {@link FloatRaster} planes and rounds once.
+ * {@code chainFloatResident} starts from an already widened image, the
+ * case of a 16-bit source, and writes into a per-thread scratch raster
+ * reused across invocations as the live preview does. {@code widen} and {@code narrow} isolate the
+ * conversions.
+ *
+ * Memory: a float raster holds 16 bytes per pixel against 4 for a packed
+ * one; add {@code -prof gc} to compare allocation per operation.
+ *
+ * @author Photo Editor Engineering Team
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx12g"})
+public class PrecisionBenchmark {
+
+    @Benchmark
+    public void chain8(ImageFixture fixture, Blackhole blackhole) throws ValidationException {
+        Raster bright = ImageProcessorV2.adjustBrightness(fixture.image, 0.1);
+        Raster contrast = ImageProcessorV2.adjustContrast(bright, 0.2);
+        RasterPool.release(bright);
+        Raster result = ImageProcessorV2.adjustSaturation(contrast, 0.3);
+        RasterPool.release(contrast);
+        consume(result, blackhole);
+    }
+
+    @Benchmark
+    public void chainFloat(ImageFixture fixture, Blackhole blackhole) throws ValidationException {
+        FloatRaster wide = FloatRaster.fromRaster(fixture.image);
+        consume(chain(wide, wide).toRaster(), blackhole);
+    }
+
+    @Benchmark
+    public FloatRaster chainFloatResident(Wide wide, Scratch scratch) throws ValidationException {
+        return chain(wide.image, scratch.planes);
+    }
+
+    @Benchmark
+    public void tone8(ImageFixture fixture, Wide wide, Blackhole blackhole) throws ValidationException {
+        consume(ImageProcessorV2.applyToneCurve(fixture.image, wide.curve), blackhole);
+    }
+
+    @Benchmark
+    public FloatRaster toneFloat(Wide wide) throws ValidationException {
+        return ImageProcessorV2.applyToneCurve(wide.image, wide.curve);
+    }
+
+    @Benchmark
+    public FloatRaster widen(ImageFixture fixture) {
+        return FloatRaster.fromRaster(fixture.image);
+    }
+
+    @Benchmark
+    public void narrow(Wide wide, Blackhole blackhole) {
+        consume(wide.image.toRaster(), blackhole);
+    }
+
+    private static FloatRaster chain(FloatRaster image, FloatRaster result) throws ValidationException {
+        ImageProcessorV2.adjustBrightness(image, 0.1, result);
+        ImageProcessorV2.adjustContrast(result, 0.2, result);
+        return ImageProcessorV2.adjustSaturation(result, 0.3, result);
+    }
+
+    private static void consume(Raster result, Blackhole blackhole) {
+        blackhole.consume(result.getArgb(0, 0));
+        RasterPool.release(result);
+    }
+
+    /**
+     * The fixture image widened once per trial, and a typical tone curve
+     */
+    @State(Scope.Benchmark)
+    public static class Wide {
+        FloatRaster image;
+        ToneCurve curve;
+
+        @Setup(Level.Trial)
+        public void setUp(ImageFixture fixture) throws ValidationException {
+            image = FloatRaster.fromRaster(fixture.image);
+            curve = new ToneCurve.Builder().exposure(0.3).contrast(0.2).shadows(0.3).build();
+        }
+    }
+
+    /**
+     * Per-thread destination planes; the chain writes them in place, so
+     * benchmark threads must not share them
+     */
+    @State(Scope.Thread)
+    public static class Scratch {
+        FloatRaster planes;
+
+        @Setup(Level.Trial)
+        public void setUp(Wide wide) {
+            planes = new FloatRaster(wide.image.getWidth(), wide.image.getHeight());
+        }
+    }
+}
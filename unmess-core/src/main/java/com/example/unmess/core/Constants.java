@@ -36,6 +36,31 @@ public final class Constants {
     public static final double BLUR_MAX = 10.0;
     public static final double SHARPEN_MIN = 0.0;
     public static final double SHARPEN_MAX = 3.0;
+    public static final double EXPOSURE_MIN = -2.0; // stops
+    public static final double EXPOSURE_MAX = 2.0;
+    public static final double TONE_MIN = -1.0; // highlights, shadows, whites, blacks
+    public static final double TONE_MAX = 1.0;
+    public static final double HUE_MIN = -180.0; // degrees
+    public static final double HUE_MAX = 180.0;
+    public static final double ROTATION_MIN = -180.0; // degrees, clockwise
+    public static final double ROTATION_MAX = 180.0;
+    public static final double VIBRANCE_MIN = -1.0;
+    public static final double VIBRANCE_MAX = 1.0;
+    public static final double CLARITY_MIN = -1.0;
+    public static final double CLARITY_MAX = 1.0;
+    public static final int CLARITY_RADIUS_MIN = 1;
+    public static final int CLARITY_RADIUS_MAX = 100;
+    public static final double NOISE_REDUCTION_MIN = 0.0;
+    public static final double NOISE_REDUCTION_MAX = 1.0;
+    public static final int MEDIAN_RADIUS_MIN = 1;
+    public static final int MEDIAN_RADIUS_MAX = 25;
+    public static final double AUTO_CLIP_FRACTION = 0.001; // 0.1% clipped at each end
+    public static final double LEVELS_GAMMA_MIN = 0.1;
+    public static final double LEVELS_GAMMA_MAX = 9.99;
+    public static final int CURVE_POINTS_MAX = 16; // per channel
+    public static final int LUT3D_SIZE_MIN = 2;
+    public static final int LUT3D_SIZE_MAX = 129; // lattice points per axis
+    public static final int LUT3D_DEFAULT_SIZE = 33;
     
     // Color Space Constants
     public static final double GRAYSCALE_RED_WEIGHT = 0.299;
@@ -56,10 +81,29 @@ public final class Constants {
     // Performance Tuning
     public static final int THREAD_POOL_SIZE = Runtime.getRuntime().availableProcessors();
     public static final int PIXEL_BATCH_SIZE = 1000;
+    public static final long RASTER_POOL_MAX_BYTES = 256L * 1024 * 1024;
+    public static final int RASTER_POOL_MAX_PER_CLASS = 4;
+    public static final int RASTER_VIEW_COMPACT_RATIO = 4; // views over less than 1/4 of their buffer are copied
+    
+    // Logging
+    public static final int LOG_BUFFER_CAPACITY = 8192; // rounded down to a power of two
+    public static final long LOG_DRAIN_INTERVAL_MS = 5;
+    
+    // UI Responsiveness
+    public static final long FX_WATCHDOG_INTERVAL_MS = 50;
+    public static final long FX_STALL_THRESHOLD_MS = 200;
+    
+    // Edit Journal (crash recovery)
+    public static final String JOURNAL_EXTENSION = ".unmess-journal";
+    public static final String SESSION_DIRECTORY = ".unmess";
+    public static final String SESSION_MARKER_FILE = "session";
+    public static final long JOURNAL_SYNC_INTERVAL_MS = 250;
+    public static final int JOURNAL_SYNC_BATCH_SIZE = 16;
     
     // Error Messages
     public static final String ERR_NO_IMAGE_LOADED = "No image is currently loaded";
     public static final String ERR_IMAGE_TOO_LARGE = "Image exceeds maximum dimensions";
     public static final String ERR_INVALID_FORMAT = "Unsupported image format";
     public static final String ERR_IO_FAILURE = "Failed to read/write image file";
+    public static final String ERR_JOURNAL_FAILURE = "Failed to write edit journal";
 }
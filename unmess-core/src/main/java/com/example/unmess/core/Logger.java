@@ -0,0 +1,274 @@
+package com.example.unmess.core;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Centralized logging system for application-wide event tracking.
+ * Thread-safe implementation with multiple log levels.
+ *
+ * Architecture:
+ * - Level checks happen before any message is built; Supplier overloads
+ *   defer formatting entirely when the level is disabled
+ * - Callers never block: records go into a lock-free, preallocated ring
+ *   buffer (bounded MPSC queue) and are formatted and written by a single
+ *   background writer thread
+ * - No allocation inside the logger on the hot path; slots are reused
+ *
+ * Overflow: when the buffer is full, ERROR and CRITICAL records are written
+ * synchronously so they are never lost; lower levels are dropped and the
+ * drop count is reported by the writer.
+ *
+ * @author Photo Editor Engineering Team
+ * @version 2.0.0
+ */
+public class Logger {
+
+    public enum Level {
+        DEBUG, INFO, WARNING, ERROR, CRITICAL
+    }
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT =
+        DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    private static volatile Level currentLevel = Level.INFO;
+    private static volatile boolean enabled = true;
+
+    private static final int CAPACITY = Integer.highestOneBit(Constants.LOG_BUFFER_CAPACITY);
+    private static final int MASK = CAPACITY - 1;
+    private static final Slot[] RING = new Slot[CAPACITY];
+    private static final AtomicLong TAIL = new AtomicLong();
+    private static final AtomicLong DROPPED = new AtomicLong();
+    private static volatile long head;
+    private static final Thread WRITER;
+
+    static {
+        for (int i = 0; i < CAPACITY; i++) {
+            RING[i] = new Slot(i);
+        }
+
+        WRITER = new Thread(Logger::drainLoop, "unmess-log-writer");
+        WRITER.setDaemon(true);
+        WRITER.start();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(Logger::flush, "unmess-log-flush"));
+    }
+
+    /**
+     * Set the minimum logging level
+     */
+    public static void setLevel(Level level) {
+        currentLevel = level;
+    }
+
+    /**
+     * Enable or disable logging
+     */
+    public static void setEnabled(boolean enable) {
+        enabled = enable;
+    }
+
+    /**
+     * Check whether records at the given level would be written
+     */
+    public static boolean isEnabled(Level level) {
+        return enabled && level.ordinal() >= currentLevel.ordinal();
+    }
+
+    public static boolean isDebugEnabled() {
+        return isEnabled(Level.DEBUG);
+    }
+
+    public static void debug(String message) {
+        log(Level.DEBUG, message, null);
+    }
+
+    public static void debug(Supplier<String> message) {
+        if (isEnabled(Level.DEBUG)) {
+            log(Level.DEBUG, message.get(), null);
+        }
+    }
+
+    public static void info(String message) {
+        log(Level.INFO, message, null);
+    }
+
+    public static void info(Supplier<String> message) {
+        if (isEnabled(Level.INFO)) {
+            log(Level.INFO, message.get(), null);
+        }
+    }
+
+    public static void warning(String message) {
+        log(Level.WARNING, message, null);
+    }
+
+    public static void warning(Supplier<String> message) {
+        if (isEnabled(Level.WARNING)) {
+            log(Level.WARNING, message.get(), null);
+        }
+    }
+
+    public static void error(String message) {
+        log(Level.ERROR, message, null);
+    }
+
+    public static void error(String message, Throwable throwable) {
+        log(Level.ERROR, message, throwable);
+    }
+
+    public static void critical(String message) {
+        log(Level.CRITICAL, message, null);
+    }
+
+    public static void critical(String message, Throwable throwable) {
+        log(Level.CRITICAL, message, throwable);
+    }
+
+    /**
+     * Block until every record enqueued before this call has been written
+     */
+    public static void flush() {
+        long target = TAIL.get();
+        if (Thread.currentThread() == WRITER) {
+            return;
+        }
+        while (head < target && WRITER.isAlive()) {
+            LockSupport.unpark(WRITER);
+            Thread.onSpinWait();
+        }
+        // Writer gone (e.g. during shutdown): drain on the calling thread
+        if (head < target) {
+            synchronized (Logger.class) {
+                drain(new StringBuilder(256));
+            }
+        }
+    }
+
+    private static void log(Level level, String message, Throwable throwable) {
+        if (!isEnabled(level)) {
+            return;
+        }
+
+        long timestamp = System.currentTimeMillis();
+        String threadName = Thread.currentThread().getName();
+
+        if (!offer(level, timestamp, threadName, message, throwable)) {
+            if (level.ordinal() >= Level.ERROR.ordinal()) {
+                synchronized (Logger.class) {
+                    write(new StringBuilder(256), level, timestamp, threadName, message, throwable);
+                }
+            } else {
+                DROPPED.incrementAndGet();
+            }
+        } else if (level.ordinal() >= Level.ERROR.ordinal()) {
+            LockSupport.unpark(WRITER);
+        }
+    }
+
+    /**
+     * Claim a slot and publish the record (Vyukov bounded queue)
+     *
+     * @return false if the buffer is full
+     */
+    private static boolean offer(Level level, long timestamp, String threadName,
+                                 String message, Throwable throwable) {
+        while (true) {
+            long position = TAIL.get();
+            Slot slot = RING[(int) position & MASK];
+            long difference = slot.sequence - position;
+
+            if (difference == 0) {
+                if (TAIL.compareAndSet(position, position + 1)) {
+                    slot.level = level;
+                    slot.timestamp = timestamp;
+                    slot.threadName = threadName;
+                    slot.message = message;
+                    slot.throwable = throwable;
+                    slot.sequence = position + 1;
+                    return true;
+                }
+            } else if (difference < 0) {
+                return false;
+            }
+        }
+    }
+
+    private static void drainLoop() {
+        StringBuilder line = new StringBuilder(256);
+        while (true) {
+            boolean wroteAny;
+            synchronized (Logger.class) {
+                wroteAny = drain(line);
+            }
+            if (!wroteAny) {
+                LockSupport.parkNanos(Constants.LOG_DRAIN_INTERVAL_MS * 1_000_000L);
+            }
+        }
+    }
+
+    /**
+     * Write all published records. Caller must hold the Logger class lock.
+     */
+    private static boolean drain(StringBuilder line) {
+        boolean wroteAny = false;
+        while (true) {
+            long position = head;
+            Slot slot = RING[(int) position & MASK];
+            if (slot.sequence != position + 1) {
+                break;
+            }
+
+            write(line, slot.level, slot.timestamp, slot.threadName, slot.message, slot.throwable);
+            slot.message = null;
+            slot.throwable = null;
+            slot.sequence = position + CAPACITY;
+            head = position + 1;
+            wroteAny = true;
+        }
+
+        long dropped = DROPPED.getAndSet(0);
+        if (dropped > 0) {
+            write(line, Level.WARNING, System.currentTimeMillis(), Thread.currentThread().getName(),
+                dropped + " log record(s) dropped, log buffer full", null);
+        }
+        return wroteAny;
+    }
+
+    private static void write(StringBuilder line, Level level, long timestamp, String threadName,
+                              String message, Throwable throwable) {
+        line.setLength(0);
+        line.append('[');
+        TIMESTAMP_FORMAT.formatTo(Instant.ofEpochMilli(timestamp), line);
+        line.append("] [").append(level).append("] [").append(threadName).append("] ").append(message);
+
+        if (level.ordinal() >= Level.ERROR.ordinal()) {
+            System.err.println(line);
+            if (throwable != null) {
+                throwable.printStackTrace(System.err);
+            }
+        } else {
+            System.out.println(line);
+        }
+    }
+
+    /**
+     * Preallocated ring buffer entry, reused for the lifetime of the process
+     */
+    private static final class Slot {
+        volatile long sequence;
+        Level level;
+        long timestamp;
+        String threadName;
+        String message;
+        Throwable throwable;
+
+        Slot(long sequence) {
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,353 @@
+package com.example.unmess.core;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide registry of per-operation performance metrics.
+ *
+ * For every operation type it records:
+ * - Latency histogram (p50/p95/p99/max)
+ * - Pixel throughput (megapixels per second)
+ * - Bytes allocated by the calling thread and the engine worker threads
+ *
+ * Engine kernels run on a shared worker pool, so allocation is sampled on
+ * the caller plus every thread registered with {@link #registerWorkerThread}.
+ * Operations running concurrently on the same workers are attributed to
+ * each other; single-operation measurements (benchmarks, one slider drag)
+ * are exact.
+ *
+ * Recording is lock-free: histogram buckets and counters are atomics, so
+ * concurrent engine calls never contend on a monitor.
+ *
+ * Histogram: log-linear buckets with 8 sub-buckets per power of two,
+ * bounding percentile error to 12.5% across the full nanosecond range.
+ *
+ * @author Photo Editor Engineering Team
+ * @version 1.0.0
+ */
+public final class MetricsRegistry {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private static final ConcurrentMap<String, OperationStats> STATS = new ConcurrentHashMap<>();
+    private static final com.sun.management.ThreadMXBean ALLOCATION_BEAN = allocationBean();
+    private static final Object WORKER_LOCK = new Object();
+    private static volatile long[] workerThreadIds = new long[0];
+
+    private MetricsRegistry() {
+        throw new AssertionError("MetricsRegistry class cannot be instantiated");
+    }
+
+    /**
+     * Begin timing an operation on the current thread
+     *
+     * @param operation Operation name, e.g. "brightness"
+     * @return Sample to be stopped when the operation completes
+     */
+    public static Sample start(String operation) {
+        return new Sample(Objects.requireNonNull(operation, "Operation cannot be null"),
+            System.nanoTime(), allocatedBytes());
+    }
+
+    /**
+     * Include a worker thread's allocation in every sample from now on
+     *
+     * @param thread Engine worker, typically registered from its constructor
+     */
+    public static void registerWorkerThread(Thread thread) {
+        Objects.requireNonNull(thread, "Thread cannot be null");
+        synchronized (WORKER_LOCK) {
+            long[] ids = Arrays.copyOf(workerThreadIds, workerThreadIds.length + 1);
+            ids[ids.length - 1] = thread.threadId();
+            workerThreadIds = ids;
+        }
+    }
+
+    /**
+     * Record a completed operation
+     *
+     * @param operation Operation name
+     * @param elapsedNanos Wall-clock duration
+     * @param pixels Pixels processed
+     * @param bytesAllocated Bytes allocated while running, or -1 if unknown
+     */
+    public static void record(String operation, long elapsedNanos, long pixels, long bytesAllocated) {
+        STATS.computeIfAbsent(operation, OperationStats::new)
+            .record(elapsedNanos, pixels, bytesAllocated);
+    }
+
+    /**
+     * Get a consistent-enough view of all recorded operations, sorted by name
+     */
+    public static List<Snapshot> snapshot() {
+        List<Snapshot> snapshots = new ArrayList<>(STATS.size());
+        for (OperationStats stats : STATS.values()) {
+            snapshots.add(stats.snapshot());
+        }
+        snapshots.sort(Comparator.comparing(Snapshot::getOperation));
+        return snapshots;
+    }
+
+    /**
+     * Discard all recorded metrics
+     */
+    public static void reset() {
+        STATS.clear();
+    }
+
+    /**
+     * Write all metrics as JSON lines (one object per operation) for fleet analysis.
+     *
+     * @param file Target file, replaced if it exists
+     * @throws IOException if the file cannot be written
+     */
+    public static void dump(Path file) throws IOException {
+        Objects.requireNonNull(file, "File cannot be null");
+
+        String host = hostName();
+        String capturedAt = Instant.now().toString();
+
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (Snapshot snapshot : snapshot()) {
+                writer.write(String.format(Locale.ROOT,
+                    "{\"app\":\"%s\",\"version\":\"%s\",\"host\":\"%s\",\"capturedAt\":\"%s\","
+                        + "\"operation\":\"%s\",\"count\":%d,\"p50Ms\":%.3f,\"p95Ms\":%.3f,"
+                        + "\"p99Ms\":%.3f,\"maxMs\":%.3f,\"megapixelsPerSecond\":%.2f,"
+                        + "\"bytesAllocatedPerCall\":%d}",
+                    Constants.APP_NAME, Constants.APP_VERSION, host, capturedAt,
+                    snapshot.getOperation(), snapshot.getCount(), snapshot.getP50Ms(),
+                    snapshot.getP95Ms(), snapshot.getP99Ms(), snapshot.getMaxMs(),
+                    snapshot.getMegapixelsPerSecond(), snapshot.getBytesAllocatedPerCall()));
+                writer.newLine();
+            }
+        }
+
+        Logger.info("Metrics dumped to " + file);
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * Bytes allocated so far by the current thread and all registered workers
+     */
+    private static long allocatedBytes() {
+        if (ALLOCATION_BEAN == null) {
+            return -1;
+        }
+        long[] ids = workerThreadIds;
+        long[] allocated = ALLOCATION_BEAN.getThreadAllocatedBytes(ids);
+        long current = Thread.currentThread().threadId();
+        long total = 0;
+        boolean callerIsWorker = false;
+        for (int i = 0; i < ids.length; i++) {
+            // Threads not started yet (or gone) report -1
+            total += Math.max(allocated[i], 0);
+            callerIsWorker |= ids[i] == current;
+        }
+        // Nested engine calls run inline on a worker, which is already counted
+        return callerIsWorker ? total : total + ALLOCATION_BEAN.getCurrentThreadAllocatedBytes();
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) bean;
+            if (allocationBean.isThreadAllocatedMemorySupported()) {
+                allocationBean.setThreadAllocatedMemoryEnabled(true);
+                return allocationBean;
+            }
+        }
+        Logger.warning("Thread allocation tracking unavailable, allocation metrics disabled");
+        return null;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (IOException e) {
+            return "unknown";
+        }
+    }
+
+    private static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) Math.max(value, 0);
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int magnitude = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = index % SUB_BUCKETS;
+        long lower = (SUB_BUCKETS + subBucket) << (magnitude - SUB_BUCKET_BITS);
+        return lower + (1L << (magnitude - SUB_BUCKET_BITS)) - 1;
+    }
+
+    // ==================== Nested Types ====================
+
+    /**
+     * In-flight measurement of a single operation
+     */
+    public static final class Sample {
+        private final String operation;
+        private final long startNanos;
+        private final long startAllocated;
+
+        private Sample(String operation, long startNanos, long startAllocated) {
+            this.operation = operation;
+            this.startNanos = startNanos;
+            this.startAllocated = startAllocated;
+        }
+
+        /**
+         * Stop the measurement and record it
+         *
+         * @param pixels Pixels processed by the operation
+         * @return Elapsed time in milliseconds
+         */
+        public long stop(long pixels) {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            long bytesAllocated = startAllocated >= 0
+                ? Math.max(0, allocatedBytes() - startAllocated) : -1;
+            record(operation, elapsedNanos, pixels, bytesAllocated);
+            return elapsedNanos / 1_000_000L;
+        }
+    }
+
+    /**
+     * Lock-free accumulator for one operation type
+     */
+    private static final class OperationStats {
+        private final String operation;
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder totalPixels = new LongAdder();
+        private final LongAdder totalAllocated = new LongAdder();
+        private final LongAdder allocationSamples = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        OperationStats(String operation) {
+            this.operation = operation;
+        }
+
+        void record(long elapsedNanos, long pixels, long bytesAllocated) {
+            buckets.incrementAndGet(bucketIndex(elapsedNanos));
+            count.increment();
+            totalNanos.add(elapsedNanos);
+            totalPixels.add(pixels);
+            maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+            if (bytesAllocated >= 0) {
+                totalAllocated.add(bytesAllocated);
+                allocationSamples.increment();
+            }
+        }
+
+        Snapshot snapshot() {
+            long[] counts = new long[BUCKET_COUNT];
+            long total = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                counts[i] = buckets.get(i);
+                total += counts[i];
+            }
+
+            long max = maxNanos.get();
+            long nanos = totalNanos.sum();
+            long samples = allocationSamples.sum();
+            double seconds = nanos / 1e9;
+
+            return new Snapshot(
+                operation,
+                total,
+                Math.min(percentile(counts, total, 0.50), max) / 1e6,
+                Math.min(percentile(counts, total, 0.95), max) / 1e6,
+                Math.min(percentile(counts, total, 0.99), max) / 1e6,
+                max / 1e6,
+                seconds > 0 ? totalPixels.sum() / 1e6 / seconds : 0.0,
+                samples > 0 ? totalAllocated.sum() / samples : -1
+            );
+        }
+
+        private static long percentile(long[] counts, long total, double quantile) {
+            if (total == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(quantile * total);
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return bucketUpperBound(i);
+                }
+            }
+            return bucketUpperBound(counts.length - 1);
+        }
+    }
+
+    /**
+     * Immutable summary of one operation type
+     */
+    public static final class Snapshot {
+        private final String operation;
+        private final long count;
+        private final double p50Ms;
+        private final double p95Ms;
+        private final double p99Ms;
+        private final double maxMs;
+        private final double megapixelsPerSecond;
+        private final long bytesAllocatedPerCall;
+
+        private Snapshot(String operation, long count, double p50Ms, double p95Ms, double p99Ms,
+                         double maxMs, double megapixelsPerSecond, long bytesAllocatedPerCall) {
+            this.operation = operation;
+            this.count = count;
+            this.p50Ms = p50Ms;
+            this.p95Ms = p95Ms;
+            this.p99Ms = p99Ms;
+            this.maxMs = maxMs;
+            this.megapixelsPerSecond = megapixelsPerSecond;
+            this.bytesAllocatedPerCall = bytesAllocatedPerCall;
+        }
+
+        public String getOperation() { return operation; }
+        public long getCount() { return count; }
+        public double getP50Ms() { return p50Ms; }
+        public double getP95Ms() { return p95Ms; }
+        public double getP99Ms() { return p99Ms; }
+        public double getMaxMs() { return maxMs; }
+        public double getMegapixelsPerSecond() { return megapixelsPerSecond; }
+        public long getBytesAllocatedPerCall() { return bytesAllocatedPerCall; }
+
+        @Override
+        public String toString() {
+            return String.format("%s[n=%d, p50=%.2fms, p95=%.2fms, p99=%.2fms, max=%.2fms, %.1f MP/s]",
+                operation, count, p50Ms, p95Ms, p99Ms, maxMs, megapixelsPerSecond);
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package com.example.unmess.core;
 
-import javafx.scene.image.Image;
-
 /**
  * Centralized validation system for all input parameters.
  * Ensures data integrity and prevents invalid operations.
@@ -66,12 +64,7 @@ public final class Validator {
     /**
      * Validate image dimensions
      */
-    public static void validateImageDimensions(Image image) throws ValidationException {
-        requireNonNull(image, "image");
-        
-        int width = (int) image.getWidth();
-        int height = (int) image.getHeight();
-        
+    public static void validateImageDimensions(int width, int height) throws ValidationException {
         if (width <= 0 || height <= 0) {
             throw new ValidationException("Image has invalid dimensions: " + width + "x" + height);
         }
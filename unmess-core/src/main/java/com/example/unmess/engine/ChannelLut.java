@@ -0,0 +1,218 @@
+package com.example.unmess.engine;
+
+import com.example.unmess.engine.Histogram.Channel;
+
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Immutable per-channel 8-bit lookup tables (red, green, blue).
+ *
+ * Used for levels-style corrections such as the auto commands, Levels and
+ * Curves: each table maps an input channel value to an output value, alpha
+ * is untouched. Tables compose with {@link #then}, so any chain of these
+ * corrections still costs three lookups per pixel.
+ *
+ * Auto commands derive their tables from a {@link Histogram} by
+ * percentile clipping:
+ * - Auto Tone: each channel is stretched independently, which also
+ *   removes color casts in the shadows and highlights
+ * - Auto Contrast: one stretch from the luminance percentiles is applied
+ *   to all channels, so colors keep their balance
+ * - Auto Color: per-channel stretch plus a per-channel gamma that moves
+ *   each channel's mean to the luminance mean, neutralizing midtones
+ *
+ * @author Photo Editor Engineering Team
+ * @version 1.0.0
+ */
+public final class ChannelLut {
+
+    public static final ChannelLut IDENTITY = levels(0, 255, 0, 255, 0, 255);
+
+    private final int[] red;
+    private final int[] green;
+    private final int[] blue;
+    private final boolean identity;
+
+    private ChannelLut(int[] red, int[] green, int[] blue) {
+        this.red = red;
+        this.green = green;
+        this.blue = blue;
+        this.identity = isIdentity(red) && isIdentity(green) && isIdentity(blue);
+    }
+
+    /**
+     * Wrap 256-entry tables (not copied) with values in [0, 255]
+     */
+    static ChannelLut of(int[] red, int[] green, int[] blue) {
+        return new ChannelLut(red, green, blue);
+    }
+
+    /**
+     * The same table for every channel, tabulating a function of normalized
+     * values exactly as {@link PixelOperations} rounds it
+     */
+    static ChannelLut uniform(DoubleUnaryOperator function) {
+        int[] table = new int[256];
+        for (int i = 0; i < 256; i++) {
+            table[i] = PixelOperations.denormalize(function.applyAsDouble(PixelOperations.normalize(i)));
+        }
+        return new ChannelLut(table, table, table);
+    }
+
+    /**
+     * Linear stretch of [low, high] to [0, 255] per channel
+     */
+    public static ChannelLut levels(int redLow, int redHigh, int greenLow, int greenHigh,
+                                    int blueLow, int blueHigh) {
+        return new ChannelLut(
+            stretch(redLow, redHigh, 1.0),
+            stretch(greenLow, greenHigh, 1.0),
+            stretch(blueLow, blueHigh, 1.0));
+    }
+
+    /**
+     * Stretch each channel between its own clip percentiles
+     *
+     * @param clip Fraction of pixels clipped at each end, e.g. 0.001
+     */
+    public static ChannelLut autoTone(Histogram histogram, double clip) {
+        return new ChannelLut(
+            stretch(histogram, Channel.RED, clip, 1.0),
+            stretch(histogram, Channel.GREEN, clip, 1.0),
+            stretch(histogram, Channel.BLUE, clip, 1.0));
+    }
+
+    /**
+     * Stretch all channels between the luminance clip percentiles
+     */
+    public static ChannelLut autoContrast(Histogram histogram, double clip) {
+        int low = histogram.percentile(Channel.LUMA, clip);
+        int high = histogram.percentile(Channel.LUMA, 1.0 - clip);
+        int[] table = stretch(low, high, 1.0);
+        return new ChannelLut(table, table, table);
+    }
+
+    /**
+     * Per-channel stretch with midtones neutralized towards the luminance mean
+     */
+    public static ChannelLut autoColor(Histogram histogram, double clip) {
+        double target = clampUnit(histogram.mean(Channel.LUMA) / 255.0);
+        return new ChannelLut(
+            neutralized(histogram, Channel.RED, clip, target),
+            neutralized(histogram, Channel.GREEN, clip, target),
+            neutralized(histogram, Channel.BLUE, clip, target));
+    }
+
+    public int mapRed(int value) { return red[value]; }
+    public int mapGreen(int value) { return green[value]; }
+    public int mapBlue(int value) { return blue[value]; }
+
+    public boolean isIdentity() {
+        return identity;
+    }
+
+    /**
+     * Tables that apply this correction and then {@code next}
+     */
+    public ChannelLut then(ChannelLut next) {
+        if (next.identity) {
+            return this;
+        }
+        if (identity) {
+            return next;
+        }
+        int[] r = new int[256];
+        int[] g = new int[256];
+        int[] b = new int[256];
+        for (int i = 0; i < 256; i++) {
+            r[i] = next.red[red[i]];
+            g[i] = next.green[green[i]];
+            b[i] = next.blue[blue[i]];
+        }
+        return new ChannelLut(r, g, b);
+    }
+
+    /**
+     * Map {@code length} pixels from {@code src} to {@code dst}
+     */
+    void applyRow(int[] src, int srcOffset, int[] dst, int dstOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            int argb = src[srcOffset + i];
+            dst[dstOffset + i] = (argb & 0xFF000000)
+                | (red[(argb >> 16) & 0xFF] << 16)
+                | (green[(argb >> 8) & 0xFF] << 8)
+                | blue[argb & 0xFF];
+        }
+    }
+
+    /**
+     * Map normalized planes in place over [from, to), interpolating between
+     * table entries so high-precision input stays continuous
+     */
+    void applyUnit(float[] r, float[] g, float[] b, int from, int to) {
+        for (int i = from; i < to; i++) {
+            r[i] = interpolate(red, r[i]);
+            g[i] = interpolate(green, g[i]);
+            b[i] = interpolate(blue, b[i]);
+        }
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private static float interpolate(int[] table, float value) {
+        float position = value > 0f ? (value < 1f ? value * 255f : 255f) : 0f;
+        int i = Math.min(254, (int) position);
+        float fraction = position - i;
+        return (table[i] + (table[i + 1] - table[i]) * fraction) * (1f / 255f);
+    }
+
+    private static int[] stretch(Histogram histogram, Channel channel, double clip, double gamma) {
+        return stretch(histogram.percentile(channel, clip), histogram.percentile(channel, 1.0 - clip), gamma);
+    }
+
+    /**
+     * Channel stretch whose gamma maps the channel mean (after stretching)
+     * onto the target gray
+     */
+    private static int[] neutralized(Histogram histogram, Channel channel, double clip, double target) {
+        int low = histogram.percentile(channel, clip);
+        int high = histogram.percentile(channel, 1.0 - clip);
+        double gamma = 1.0;
+        if (high > low) {
+            double mean = clampUnit((histogram.mean(channel) - low) / (high - low));
+            if (mean > 0.0 && mean < 1.0 && target > 0.0 && target < 1.0) {
+                // Keep corrections moderate on images dominated by one hue
+                gamma = Math.max(0.5, Math.min(2.0, Math.log(target) / Math.log(mean)));
+            }
+        }
+        return stretch(low, high, gamma);
+    }
+
+    private static int[] stretch(int low, int high, double gamma) {
+        int[] table = new int[256];
+        if (high <= low) {
+            for (int i = 0; i < 256; i++) {
+                table[i] = i;
+            }
+            return table;
+        }
+        for (int i = 0; i < 256; i++) {
+            double t = clampUnit((i - low) / (double) (high - low));
+            table[i] = (int) Math.round(Math.pow(t, gamma) * 255.0);
+        }
+        return table;
+    }
+
+    private static boolean isIdentity(int[] table) {
+        for (int i = 0; i < 256; i++) {
+            if (table[i] != i) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static double clampUnit(double value) {
+        return Math.max(0.0, Math.min(1.0, value));
+    }
+}
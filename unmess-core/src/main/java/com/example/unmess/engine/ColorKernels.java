@@ -0,0 +1,230 @@
+package com.example.unmess.engine;
+
+import com.example.unmess.core.Logger;
+
+/**
+ * Row kernels for color matrices (hue, saturation, sepia), grayscale and
+ * vibrance on packed 8-bit ARGB pixels.
+ *
+ * Every kernel processes one row span and returns nothing; callers loop over
+ * rows. When the {@code jdk.incubator.vector} module is present (run with
+ * {@code --add-modules jdk.incubator.vector}) the bulk of each row goes
+ * through {@link VectorColorKernels}; the remaining tail, and every pixel
+ * when the module is absent, use the scalar code below. Both paths use the
+ * same fixed-point arithmetic and produce identical pixels.
+ *
+ * {@code -Dunmess.vector=false} forces the scalar path, e.g. to compare
+ * the two in benchmarks.
+ *
+ * Matrices are Q12 and luma weights Q16. Coefficient rounding moves a
+ * result by less than 0.1 of a level before the final rounding, so every
+ * kernel stays within 1 level of the same formula evaluated in doubles.
+ *
+ * @author Photo Editor Engineering Team
+ * @version 1.0.0
+ */
+final class ColorKernels {
+
+    static final int FRACTION_BITS = 12;
+    static final int ONE = 1 << FRACTION_BITS;
+    static final int HALF = ONE >> 1;
+
+    // BT.709 luma weights in Q16, summing to exactly 65536
+    static final int LUMA_RED = 13933;
+    static final int LUMA_GREEN = 46871;
+    static final int LUMA_BLUE = 65536 - LUMA_RED - LUMA_GREEN;
+
+    static final boolean VECTORIZED = detectVectorSupport();
+
+    private static final int[] SEPIA = toQ12(new double[] {
+        0.393, 0.769, 0.189,
+        0.349, 0.686, 0.168,
+        0.272, 0.534, 0.131
+    });
+
+    private ColorKernels() {
+        throw new AssertionError("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Q12 3x3 matrix rotating hue about the gray axis while preserving luminance
+     *
+     * @param degrees Hue rotation in degrees
+     * @return Row-major coefficients m00..m22
+     */
+    static int[] hueMatrix(double degrees) {
+        double radians = Math.toRadians(degrees);
+        double cos = Math.cos(radians);
+        double sin = Math.sin(radians);
+        double[] m = {
+            0.213 + cos * 0.787 - sin * 0.213,
+            0.715 - cos * 0.715 - sin * 0.715,
+            0.072 - cos * 0.072 + sin * 0.928,
+            0.213 - cos * 0.213 + sin * 0.143,
+            0.715 + cos * 0.285 + sin * 0.140,
+            0.072 - cos * 0.072 - sin * 0.283,
+            0.213 - cos * 0.213 - sin * 0.787,
+            0.715 - cos * 0.715 + sin * 0.715,
+            0.072 + cos * 0.928 + sin * 0.072
+        };
+        return toQ12(m);
+    }
+
+    /**
+     * Q12 3x3 matrix scaling chroma around BT.709 luma by {@code 1 + factor}
+     */
+    static int[] saturationMatrix(double factor) {
+        double s = 1.0 + factor;
+        double[] luma = {0.2126, 0.7152, 0.0722};
+        double[] m = new double[9];
+        for (int row = 0; row < 3; row++) {
+            for (int col = 0; col < 3; col++) {
+                m[row * 3 + col] = (row == col ? s : 0.0) + (1.0 - s) * luma[col];
+            }
+        }
+        return toQ12(m);
+    }
+
+    /**
+     * Q12 sepia tone matrix (do not modify)
+     */
+    static int[] sepiaMatrix() {
+        return SEPIA;
+    }
+
+    /**
+     * Apply a Q12 color matrix to {@code length} pixels
+     */
+    static void matrixRow(int[] src, int srcOffset, int[] dst, int dstOffset, int length, int[] m) {
+        int done = VECTORIZED ? VectorColorKernels.matrixRow(src, srcOffset, dst, dstOffset, length, m) : 0;
+        for (int i = done; i < length; i++) {
+            int argb = src[srcOffset + i];
+            int r = (argb >> 16) & 0xFF;
+            int g = (argb >> 8) & 0xFF;
+            int b = argb & 0xFF;
+            int nr = clamp((m[0] * r + m[1] * g + m[2] * b + HALF) >> FRACTION_BITS);
+            int ng = clamp((m[3] * r + m[4] * g + m[5] * b + HALF) >> FRACTION_BITS);
+            int nb = clamp((m[6] * r + m[7] * g + m[8] * b + HALF) >> FRACTION_BITS);
+            dst[dstOffset + i] = (argb & 0xFF000000) | (nr << 16) | (ng << 8) | nb;
+        }
+    }
+
+    /**
+     * Replace each pixel by its Q16 BT.709 luma
+     */
+    static void grayRow(int[] src, int srcOffset, int[] dst, int dstOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            int argb = src[srcOffset + i];
+            int gray = (((argb >> 16) & 0xFF) * LUMA_RED + ((argb >> 8) & 0xFF) * LUMA_GREEN
+                + (argb & 0xFF) * LUMA_BLUE + 32768) >> 16;
+            dst[dstOffset + i] = (argb & 0xFF000000) | (gray << 16) | (gray << 8) | gray;
+        }
+    }
+
+    /**
+     * Scale chroma around luma by {@code 1 + amount * (1 - saturation)}, so
+     * muted colors move most and saturated ones barely change
+     *
+     * @param amountQ12 Vibrance amount in Q12 [-4096 to 4096]
+     */
+    static void vibranceRow(int[] src, int srcOffset, int[] dst, int dstOffset, int length, int amountQ12) {
+        int done = VECTORIZED
+            ? VectorColorKernels.vibranceRow(src, srcOffset, dst, dstOffset, length, amountQ12) : 0;
+        for (int i = done; i < length; i++) {
+            int argb = src[srcOffset + i];
+            int r = (argb >> 16) & 0xFF;
+            int g = (argb >> 8) & 0xFF;
+            int b = argb & 0xFF;
+            int max = Math.max(r, Math.max(g, b));
+            int min = Math.min(r, Math.min(g, b));
+            int gray = (r * LUMA_RED + g * LUMA_GREEN + b * LUMA_BLUE + 32768) >> 16;
+            // (255 - chroma) / 255 approximated as * 257 >> 16
+            int scale = ONE + ((amountQ12 * (255 - (max - min)) * 257) >> 16);
+            int nr = clamp(gray + (((r - gray) * scale + HALF) >> FRACTION_BITS));
+            int ng = clamp(gray + (((g - gray) * scale + HALF) >> FRACTION_BITS));
+            int nb = clamp(gray + (((b - gray) * scale + HALF) >> FRACTION_BITS));
+            dst[dstOffset + i] = (argb & 0xFF000000) | (nr << 16) | (ng << 8) | nb;
+        }
+    }
+
+    /**
+     * Exact HSL hue rotation. Lightness and saturation are unchanged, so
+     * only the channel order and the middle channel move; no trigonometry.
+     *
+     * @param shift Hue shift in sextants [0.0 to 6.0)
+     */
+    static void hslHueRow(int[] src, int srcOffset, int[] dst, int dstOffset, int length, double shift) {
+        for (int i = 0; i < length; i++) {
+            int argb = src[srcOffset + i];
+            int r = (argb >> 16) & 0xFF;
+            int g = (argb >> 8) & 0xFF;
+            int b = argb & 0xFF;
+            int max = Math.max(r, Math.max(g, b));
+            int min = Math.min(r, Math.min(g, b));
+            int chroma = max - min;
+            if (chroma == 0) {
+                dst[dstOffset + i] = argb;
+                continue;
+            }
+
+            double hue;
+            if (max == r) {
+                hue = (g - b) / (double) chroma;
+            } else if (max == g) {
+                hue = (b - r) / (double) chroma + 2.0;
+            } else {
+                hue = (r - g) / (double) chroma + 4.0;
+            }
+            hue += shift;
+            hue -= 6.0 * Math.floor(hue / 6.0);
+
+            int sextant = Math.min((int) hue, 5);
+            double fraction = hue - sextant;
+            int rising = min + (int) Math.round(chroma * fraction);
+            int falling = min + (int) Math.round(chroma * (1.0 - fraction));
+
+            int nr, ng, nb;
+            switch (sextant) {
+                case 0:  nr = max;     ng = rising;  nb = min;     break;
+                case 1:  nr = falling; ng = max;     nb = min;     break;
+                case 2:  nr = min;     ng = max;     nb = rising;  break;
+                case 3:  nr = min;     ng = falling; nb = max;     break;
+                case 4:  nr = rising;  ng = min;     nb = max;     break;
+                default: nr = max;     ng = min;     nb = falling; break;
+            }
+            dst[dstOffset + i] = (argb & 0xFF000000) | (nr << 16) | (ng << 8) | nb;
+        }
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private static int clamp(int value) {
+        return Math.max(0, Math.min(255, value));
+    }
+
+    private static int[] toQ12(double[] m) {
+        int[] q = new int[m.length];
+        for (int i = 0; i < m.length; i++) {
+            q[i] = (int) Math.round(m[i] * ONE);
+        }
+        return q;
+    }
+
+    private static boolean detectVectorSupport() {
+        if (!Boolean.parseBoolean(System.getProperty("unmess.vector", "true"))) {
+            Logger.info("Vector API disabled, using scalar color kernels");
+            return false;
+        }
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            Logger.info("jdk.incubator.vector not enabled, using scalar color kernels");
+            return false;
+        }
+        try {
+            Logger.info("Vector API enabled, lanes per vector: " + VectorColorKernels.lanes());
+            return true;
+        } catch (LinkageError e) {
+            Logger.warning("Vector API unavailable, using scalar color kernels: " + e);
+            return false;
+        }
+    }
+}
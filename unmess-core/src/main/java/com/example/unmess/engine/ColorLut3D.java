@@ -0,0 +1,357 @@
+package com.example.unmess.engine;
+
+import com.example.unmess.core.Constants;
+import com.example.unmess.core.ValidationException;
+import com.example.unmess.core.Validator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Immutable 3D color lookup table with tetrahedral interpolation.
+ *
+ * The lattice has {@code size}^3 nodes over the RGB cube, red varying
+ * fastest (the .cube order). Each node packs its output color as three
+ * 10-bit channels in 8.2 fixed point, so one int load fetches a whole
+ * node. A pixel is interpolated inside one of the six tetrahedra of its
+ * lattice cell: four node loads and three multiply-adds per channel,
+ * exact for colors on the lattice and for any linear function of RGB.
+ *
+ * Sources:
+ * - {@link #readCube(Path)}: Adobe/Resolve .cube files (3D, DOMAIN 0..1)
+ * - {@link #fromFunction}: bake any point color transform, e.g.
+ *   {@link #grayscale}, {@link #sepia} and {@link #basicAdjustments}
+ * - {@link #fromNodes}: packed nodes saved from {@link #getNodes}, e.g.
+ *   by the edit journal
+ *
+ * @author Photo Editor Engineering Team
+ * @version 1.0.0
+ */
+public final class ColorLut3D {
+
+    /**
+     * Point color transform on normalized RGB [0.0 to 1.0]
+     */
+    @FunctionalInterface
+    public interface ColorFunction {
+        /**
+         * @param out Receives the output red, green and blue [0.0 to 1.0]
+         */
+        void apply(double red, double green, double blue, double[] out);
+    }
+
+    // Node channels are stored as round(value * NODE_SCALE), 8.2 fixed point
+    static final int NODE_SCALE = 1020;
+    static final int FRACTION_BITS = 12;
+
+    private final String title;
+    private final int size;
+    private final int[] lattice;
+    private final int scaleQ16;
+    // Tetrahedron steps indexed by the signs of fr - fg, fg - fb and fr - fb
+    private final int[] firstStep = new int[8];
+    private final int[] lastStep = new int[8];
+
+    private ColorLut3D(String title, int size, int[] lattice) {
+        this.title = title;
+        this.size = size;
+        this.lattice = lattice;
+        // Rounded down so 255 stays inside the last cell
+        this.scaleQ16 = (int) (((long) (size - 1) << 16) / 255);
+        for (int key = 0; key < 8; key++) {
+            boolean redBelowGreen = (key & 1) != 0;
+            boolean greenBelowBlue = (key & 2) != 0;
+            boolean redBelowBlue = (key & 4) != 0;
+            // Largest fraction first (ties: red, then green), smallest last (ties: blue, then green)
+            firstStep[key] = !redBelowGreen && !redBelowBlue ? 1 : (!greenBelowBlue ? size : size * size);
+            lastStep[key] = !greenBelowBlue && !redBelowBlue ? size * size : (!redBelowGreen ? size : 1);
+        }
+    }
+
+    /**
+     * Bake a color transform into a lattice
+     *
+     * @param size Lattice points per axis [2 to 129], e.g. 33
+     * @throws ValidationException if the size is out of range
+     */
+    public static ColorLut3D fromFunction(String title, int size, ColorFunction function)
+            throws ValidationException {
+        Validator.requireNonNull(function, "function");
+        Validator.requireInRange(size, Constants.LUT3D_SIZE_MIN, Constants.LUT3D_SIZE_MAX, "size");
+
+        int[] lattice = new int[size * size * size];
+        double[] out = new double[3];
+        double step = 1.0 / (size - 1);
+        for (int b = 0, i = 0; b < size; b++) {
+            for (int g = 0; g < size; g++) {
+                for (int r = 0; r < size; r++, i++) {
+                    function.apply(r * step, g * step, b * step, out);
+                    lattice[i] = packNode(out[0], out[1], out[2]);
+                }
+            }
+        }
+        return new ColorLut3D(title, size, lattice);
+    }
+
+    /**
+     * Read a 3D .cube file
+     *
+     * @throws IOException if the file cannot be read or is not a valid 3D LUT
+     */
+    public static ColorLut3D readCube(Path path) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return readCube(reader, path.getFileName().toString());
+        }
+    }
+
+    /**
+     * Parse .cube text: optional TITLE, LUT_3D_SIZE, optional DOMAIN_MIN /
+     * DOMAIN_MAX (which must be 0 and 1), then size^3 "r g b" lines
+     *
+     * @param name Used as the title when the file has none, and in errors
+     * @throws IOException if the text is not a valid 3D LUT
+     */
+    public static ColorLut3D readCube(BufferedReader reader, String name) throws IOException {
+        String title = name;
+        int size = 0;
+        int[] lattice = null;
+        int count = 0;
+        int lineNumber = 0;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] tokens = line.split("\\s+");
+            String keyword = tokens[0].toUpperCase(Locale.ROOT);
+
+            if (keyword.equals("TITLE")) {
+                title = line.substring(5).trim().replace("\"", "");
+            } else if (keyword.equals("LUT_3D_SIZE")) {
+                size = parseInt(tokens, name, lineNumber);
+                if (size < Constants.LUT3D_SIZE_MIN || size > Constants.LUT3D_SIZE_MAX) {
+                    throw formatError(name, lineNumber, "unsupported LUT_3D_SIZE " + size);
+                }
+                lattice = new int[size * size * size];
+            } else if (keyword.equals("LUT_1D_SIZE")) {
+                throw formatError(name, lineNumber, "1D LUTs are not supported");
+            } else if (keyword.equals("DOMAIN_MIN") || keyword.equals("DOMAIN_MAX")) {
+                double expected = keyword.equals("DOMAIN_MIN") ? 0.0 : 1.0;
+                double[] values = parseTriple(tokens, name, lineNumber);
+                if (values[0] != expected || values[1] != expected || values[2] != expected) {
+                    throw formatError(name, lineNumber, "only DOMAIN 0..1 is supported");
+                }
+            } else if (Character.isLetter(keyword.charAt(0))) {
+                // Unknown keywords (e.g. LUT_3D_INPUT_RANGE from other tools) are ignored
+                continue;
+            } else {
+                if (lattice == null) {
+                    throw formatError(name, lineNumber, "data before LUT_3D_SIZE");
+                }
+                if (count == lattice.length) {
+                    throw formatError(name, lineNumber, "more than " + lattice.length + " entries");
+                }
+                double[] rgb = parseTriple(tokens, name, lineNumber);
+                lattice[count++] = packNode(rgb[0], rgb[1], rgb[2]);
+            }
+        }
+
+        if (lattice == null) {
+            throw formatError(name, lineNumber, "missing LUT_3D_SIZE");
+        }
+        if (count != lattice.length) {
+            throw formatError(name, lineNumber, "expected " + lattice.length + " entries, found " + count);
+        }
+        return new ColorLut3D(title, size, lattice);
+    }
+
+    /**
+     * Rebuild a table from the packed nodes of {@link #getNodes}
+     *
+     * @throws ValidationException if the size is out of range, the node count
+     *         is not size^3 or a node channel exceeds the 8.2 range
+     */
+    public static ColorLut3D fromNodes(String title, int size, int[] nodes) throws ValidationException {
+        Validator.requireNonNull(nodes, "nodes");
+        Validator.requireInRange(size, Constants.LUT3D_SIZE_MIN, Constants.LUT3D_SIZE_MAX, "size");
+        if (nodes.length != size * size * size) {
+            throw new ValidationException("Node count does not match the lattice size", "nodes", nodes.length);
+        }
+        for (int node : nodes) {
+            if ((node >>> 30) != 0 || (node >>> 20) > NODE_SCALE
+                    || ((node >> 10) & 0x3FF) > NODE_SCALE || (node & 0x3FF) > NODE_SCALE) {
+                throw new ValidationException("Lattice node out of range", "nodes", Integer.toHexString(node));
+            }
+        }
+        return new ColorLut3D(title, size, nodes.clone());
+    }
+
+    /**
+     * BT.709 grayscale, as {@link ImageProcessorV2#toGrayscale}
+     */
+    public static ColorLut3D grayscale(int size) throws ValidationException {
+        return fromFunction("Grayscale", size, (r, g, b, out) -> {
+            double gray = PixelOperations.toGrayscale(r, g, b);
+            out[0] = gray;
+            out[1] = gray;
+            out[2] = gray;
+        });
+    }
+
+    /**
+     * Sepia matrix, as {@link ImageProcessorV2#sepiaTone}
+     */
+    public static ColorLut3D sepia(int size) throws ValidationException {
+        return fromFunction("Sepia", size, (r, g, b, out) -> {
+            out[0] = 0.393 * r + 0.769 * g + 0.189 * b;
+            out[1] = 0.349 * r + 0.686 * g + 0.168 * b;
+            out[2] = 0.272 * r + 0.534 * g + 0.131 * b;
+        });
+    }
+
+    /**
+     * Brightness, contrast and saturation fused into one table, matching
+     * {@link ImageProcessorV2#adjustBrightness}, {@link ImageProcessorV2#adjustContrast}
+     * and {@link ImageProcessorV2#adjustSaturation} applied in that order
+     *
+     * @throws ValidationException if a factor or the size is out of range
+     */
+    public static ColorLut3D basicAdjustments(int size, double brightness, double contrast, double saturation)
+            throws ValidationException {
+        Validator.validateAdjustment(brightness, Constants.BRIGHTNESS_MIN, Constants.BRIGHTNESS_MAX, "brightness");
+        Validator.validateAdjustment(contrast, Constants.CONTRAST_MIN, Constants.CONTRAST_MAX, "contrast");
+        Validator.validateAdjustment(saturation, Constants.SATURATION_MIN, Constants.SATURATION_MAX, "saturation");
+        String title = String.format("Basic[brightness=%.2f, contrast=%.2f, saturation=%.2f]",
+            brightness, contrast, saturation);
+        return fromFunction(title, size, (r, g, b, out) -> {
+            double[] rgb = {r, g, b};
+            for (int c = 0; c < 3; c++) {
+                double v = PixelOperations.clamp(rgb[c] + brightness);
+                rgb[c] = PixelOperations.clamp((v - 0.5) * (1.0 + contrast) + 0.5);
+            }
+            double gray = PixelOperations.toGrayscale(rgb[0], rgb[1], rgb[2]);
+            for (int c = 0; c < 3; c++) {
+                out[c] = gray + (rgb[c] - gray) * (1.0 + saturation);
+            }
+        });
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Lattice points per axis
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Copy of the lattice, {@code size}^3 nodes in .cube order, each packing
+     * red, green and blue as 10-bit 8.2 fixed point (see {@link #fromNodes})
+     */
+    public int[] getNodes() {
+        return lattice.clone();
+    }
+
+    /**
+     * Interpolate {@code length} pixels from {@code src} into {@code dst}; alpha is kept
+     */
+    void applyRow(int[] src, int srcOffset, int[] dst, int dstOffset, int length) {
+        int done = ColorKernels.VECTORIZED
+            ? VectorColorKernels.lut3dRow(src, srcOffset, dst, dstOffset, length, lattice, size, scaleQ16)
+            : 0;
+        int strideB = size * size;
+        int diagonal = 1 + size + strideB;
+        for (int i = done; i < length; i++) {
+            int argb = src[srcOffset + i];
+            int pr = ((argb >> 16) & 0xFF) * scaleQ16;
+            int pg = ((argb >> 8) & 0xFF) * scaleQ16;
+            int pb = (argb & 0xFF) * scaleQ16;
+            int fr = (pr >> 4) & 0xFFF;
+            int fg = (pg >> 4) & 0xFFF;
+            int fb = (pb >> 4) & 0xFFF;
+            int base = (pr >> 16) + (pg >> 16) * size + (pb >> 16) * strideB;
+
+            // The tetrahedron walks from the cell origin along the axes in
+            // order of decreasing fraction; a table lookup instead of
+            // branches, which mispredict on textured images
+            int key = ((fr - fg) >>> 31) | (((fg - fb) >>> 31) << 1) | (((fr - fb) >>> 31) << 2);
+            int first = firstStep[key];
+            int last = lastStep[key];
+            int f1 = Math.max(fr, Math.max(fg, fb));
+            int f3 = Math.min(fr, Math.min(fg, fb));
+            int f2 = fr + fg + fb - f1 - f3;
+
+            int c0 = lattice[base];
+            int ca = lattice[base + first];
+            int cb = lattice[base + diagonal - last];
+            int c1 = lattice[base + diagonal];
+
+            dst[dstOffset + i] = (argb & 0xFF000000)
+                | (interpolate(c0 >> 20, ca >> 20, cb >> 20, c1 >> 20, f1, f2, f3) << 16)
+                | (interpolate((c0 >> 10) & 0x3FF, (ca >> 10) & 0x3FF, (cb >> 10) & 0x3FF, (c1 >> 10) & 0x3FF,
+                    f1, f2, f3) << 8)
+                | interpolate(c0 & 0x3FF, ca & 0x3FF, cb & 0x3FF, c1 & 0x3FF, f1, f2, f3);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ColorLut3D[%s, %d^3]", title, size);
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * 8.2 node values and Q12 fractions to an 8-bit channel
+     */
+    private static int interpolate(int c0, int ca, int cb, int c1, int f1, int f2, int f3) {
+        int v = (c0 << FRACTION_BITS) + f1 * (ca - c0) + f2 * (cb - ca) + f3 * (c1 - cb);
+        return (v + (1 << (FRACTION_BITS + 1))) >> (FRACTION_BITS + 2);
+    }
+
+    private static int packNode(double r, double g, double b) {
+        return (toNode(r) << 20) | (toNode(g) << 10) | toNode(b);
+    }
+
+    private static int toNode(double value) {
+        return (int) Math.round(PixelOperations.clamp(value) * NODE_SCALE);
+    }
+
+    private static int parseInt(String[] tokens, String name, int lineNumber) throws IOException {
+        try {
+            return Integer.parseInt(tokens[1]);
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            throw formatError(name, lineNumber, "expected an integer after " + tokens[0]);
+        }
+    }
+
+    private static double[] parseTriple(String[] tokens, String name, int lineNumber) throws IOException {
+        int offset = Character.isLetter(tokens[0].charAt(0)) ? 1 : 0;
+        if (tokens.length < offset + 3) {
+            throw formatError(name, lineNumber, "expected three values");
+        }
+        try {
+            return new double[] {
+                Double.parseDouble(tokens[offset]),
+                Double.parseDouble(tokens[offset + 1]),
+                Double.parseDouble(tokens[offset + 2])
+            };
+        } catch (NumberFormatException e) {
+            throw formatError(name, lineNumber, "invalid number");
+        }
+    }
+
+    private static IOException formatError(String name, int lineNumber, String message) {
+        return new IOException(String.format("Invalid .cube file %s (line %d): %s", name, lineNumber, message));
+    }
+}
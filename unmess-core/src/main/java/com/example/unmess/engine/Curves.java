@@ -0,0 +1,216 @@
+package com.example.unmess.engine;
+
+import com.example.unmess.core.Constants;
+import com.example.unmess.core.ValidationException;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Curves adjustment: a master curve applied to all channels followed by
+ * one curve per channel.
+ *
+ * Each curve passes through its control points (8-bit input, output) and
+ * is interpolated with a monotone cubic Hermite spline (Fritsch-Carlson
+ * slopes, as in PCHIP), so it never overshoots between points: a rising
+ * run of points gives a rising curve and no value leaves [0, 255]. Inputs
+ * outside the first and last points keep those points' outputs.
+ *
+ * Compiles to a {@link ChannelLut} with {@link #toLut()}, red = red(master(x))
+ * and likewise for green and blue.
+ *
+ * @author Photo Editor Engineering Team
+ * @version 1.0.0
+ */
+public final class Curves {
+
+    /**
+     * Curve being edited
+     */
+    public enum Channel {
+        MASTER, RED, GREEN, BLUE
+    }
+
+    // Declared before IDENTITY, whose construction reads it
+    private static final double[] IDENTITY_POINTS = {0, 255};
+
+    public static final Curves IDENTITY = new Curves(new Builder());
+
+    // Only channels that differ from the straight 0..255 line
+    private final Map<Channel, double[]> inputs = new EnumMap<>(Channel.class);
+    private final Map<Channel, double[]> outputs = new EnumMap<>(Channel.class);
+    private final Map<Channel, int[]> tables = new EnumMap<>(Channel.class);
+
+    private Curves(Builder builder) {
+        for (Map.Entry<Channel, double[]> entry : builder.inputs.entrySet()) {
+            double[] y = builder.outputs.get(entry.getKey());
+            if (!Arrays.equals(entry.getValue(), IDENTITY_POINTS) || !Arrays.equals(y, IDENTITY_POINTS)) {
+                inputs.put(entry.getKey(), entry.getValue().clone());
+                outputs.put(entry.getKey(), y.clone());
+            }
+        }
+        for (Channel channel : Channel.values()) {
+            tables.put(channel, compile(getInputs(channel), getOutputs(channel)));
+        }
+    }
+
+    /**
+     * Control point inputs of a channel, ascending
+     */
+    public double[] getInputs(Channel channel) {
+        return inputs.getOrDefault(channel, IDENTITY_POINTS).clone();
+    }
+
+    /**
+     * Control point outputs of a channel
+     */
+    public double[] getOutputs(Channel channel) {
+        return outputs.getOrDefault(channel, IDENTITY_POINTS).clone();
+    }
+
+    /**
+     * Evaluate one channel's curve on its own (without the master curve)
+     */
+    public int map(Channel channel, int value) {
+        return tables.get(channel)[value];
+    }
+
+    public boolean isIdentity() {
+        return inputs.isEmpty();
+    }
+
+    /**
+     * Compile master and channel curves to per-channel tables
+     */
+    public ChannelLut toLut() {
+        if (isIdentity()) {
+            return ChannelLut.IDENTITY;
+        }
+        int[] master = tables.get(Channel.MASTER);
+        return ChannelLut.of(
+            compose(master, tables.get(Channel.RED)),
+            compose(master, tables.get(Channel.GREEN)),
+            compose(master, tables.get(Channel.BLUE)));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("Curves[");
+        for (Map.Entry<Channel, double[]> entry : inputs.entrySet()) {
+            double[] out = outputs.get(entry.getKey());
+            text.append(entry.getKey()).append('=');
+            for (int i = 0; i < out.length; i++) {
+                text.append(String.format("%s(%.0f,%.0f)", i == 0 ? "" : " ", entry.getValue()[i], out[i]));
+            }
+            text.append(' ');
+        }
+        return text.toString().trim() + "]";
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private static int[] compose(int[] first, int[] second) {
+        int[] table = new int[256];
+        for (int i = 0; i < 256; i++) {
+            table[i] = second[first[i]];
+        }
+        return table;
+    }
+
+    /**
+     * Tabulate the monotone cubic through the points at 0..255
+     */
+    private static int[] compile(double[] x, double[] y) {
+        int n = x.length;
+        double[] slopes = new double[n - 1];
+        for (int k = 0; k < n - 1; k++) {
+            slopes[k] = (y[k + 1] - y[k]) / (x[k + 1] - x[k]);
+        }
+
+        // Tangents: weighted harmonic mean of neighbouring secants, zero at extrema
+        double[] m = new double[n];
+        m[0] = slopes[0];
+        m[n - 1] = slopes[n - 2];
+        for (int k = 1; k < n - 1; k++) {
+            double d0 = slopes[k - 1];
+            double d1 = slopes[k];
+            if (d0 * d1 <= 0) {
+                m[k] = 0;
+            } else {
+                double h0 = x[k] - x[k - 1];
+                double h1 = x[k + 1] - x[k];
+                m[k] = 3 * (h0 + h1) / ((2 * h1 + h0) / d0 + (h1 + 2 * h0) / d1);
+            }
+        }
+
+        int[] table = new int[256];
+        int k = 0;
+        for (int i = 0; i < 256; i++) {
+            double value;
+            if (i <= x[0]) {
+                value = y[0];
+            } else if (i >= x[n - 1]) {
+                value = y[n - 1];
+            } else {
+                while (i > x[k + 1]) {
+                    k++;
+                }
+                double h = x[k + 1] - x[k];
+                double t = (i - x[k]) / h;
+                double t2 = t * t;
+                double t3 = t2 * t;
+                value = (2 * t3 - 3 * t2 + 1) * y[k] + (t3 - 2 * t2 + t) * h * m[k]
+                    + (-2 * t3 + 3 * t2) * y[k + 1] + (t3 - t2) * h * m[k + 1];
+            }
+            table[i] = PixelOperations.clampInt((int) Math.round(value), 0, 255);
+        }
+        return table;
+    }
+
+    // Builder Pattern
+    public static class Builder {
+        private final Map<Channel, double[]> inputs = new EnumMap<>(Channel.class);
+        private final Map<Channel, double[]> outputs = new EnumMap<>(Channel.class);
+
+        /**
+         * Set a channel's control points; a straight 0..255 line clears it
+         *
+         * @param inputs Point inputs [0 to 255], strictly ascending
+         * @param outputs Point outputs [0 to 255]
+         */
+        public Builder points(Channel channel, double[] inputs, double[] outputs) {
+            this.inputs.put(channel, inputs.clone());
+            this.outputs.put(channel, outputs.clone());
+            return this;
+        }
+
+        /**
+         * @throws ValidationException if a channel has fewer than 2 or more than
+         *         {@value Constants#CURVE_POINTS_MAX} points, a point outside
+         *         [0, 255], or inputs that are not strictly ascending
+         */
+        public Curves build() throws ValidationException {
+            for (Channel channel : Channel.values()) {
+                double[] x = inputs.get(channel);
+                double[] y = outputs.get(channel);
+                if (x == null) {
+                    continue;
+                }
+                String field = "curve." + channel.name().toLowerCase();
+                if (x.length != y.length || x.length < 2 || x.length > Constants.CURVE_POINTS_MAX) {
+                    throw new ValidationException("Curve needs 2 to " + Constants.CURVE_POINTS_MAX
+                        + " points", field, x.length);
+                }
+                for (int i = 0; i < x.length; i++) {
+                    if (!(x[i] >= 0 && x[i] <= 255 && y[i] >= 0 && y[i] <= 255)
+                            || (i > 0 && x[i] <= x[i - 1])) {
+                        throw new ValidationException("Curve points must be in [0, 255] with ascending inputs",
+                            field, Arrays.toString(x));
+                    }
+                }
+            }
+            return new Curves(this);
+        }
+    }
+}
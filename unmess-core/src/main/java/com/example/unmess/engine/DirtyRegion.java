@@ -0,0 +1,230 @@
+package com.example.unmess.engine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable set of changed pixels, stored as a union of rectangles.
+ *
+ * Reported with every engine edit ({@link EditResult}), kept with each
+ * ImageState and consumed by the display, which copies, premultiplies and
+ * uploads only the changed rectangles. That display work is the only part
+ * that scales with the region: image storage stays dense, so every state
+ * still holds a full copy of its raster. Filters and transforms report the
+ * whole image; only pixel patches ({@link OperationReplayer#applyPatch})
+ * and undo/redo across them produce partial regions.
+ *
+ * Representation: rectangles never overlap. Overlapping rectangles are
+ * merged into their bounding box, and once more than
+ * {@value #MAX_RECTANGLES} remain the region collapses to its bounds, so
+ * unions stay cheap and the region only ever over-approximates.
+ *
+ * @author Photo Editor Engineering Team
+ * @version 1.0.0
+ */
+public final class DirtyRegion {
+
+    public static final int MAX_RECTANGLES = 16;
+
+    public static final DirtyRegion EMPTY = new DirtyRegion(Collections.emptyList());
+
+    private final List<Rect> rectangles;
+
+    private DirtyRegion(List<Rect> rectangles) {
+        this.rectangles = rectangles;
+    }
+
+    /**
+     * Region of a single rectangle; empty if width or height is not positive
+     */
+    public static DirtyRegion of(int x, int y, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            return EMPTY;
+        }
+        return new DirtyRegion(Collections.singletonList(new Rect(x, y, width, height)));
+    }
+
+    /**
+     * Region covering a whole image
+     */
+    public static DirtyRegion full(int width, int height) {
+        return of(0, 0, width, height);
+    }
+
+    public boolean isEmpty() {
+        return rectangles.isEmpty();
+    }
+
+    /**
+     * Non-overlapping rectangles making up this region
+     */
+    public List<Rect> getRectangles() {
+        return rectangles;
+    }
+
+    /**
+     * Smallest rectangle containing the whole region, or null if empty
+     */
+    public Rect getBounds() {
+        if (rectangles.isEmpty()) {
+            return null;
+        }
+        Rect first = rectangles.get(0);
+        int x0 = first.x, y0 = first.y, x1 = first.getRight(), y1 = first.getBottom();
+        for (Rect rect : rectangles) {
+            x0 = Math.min(x0, rect.x);
+            y0 = Math.min(y0, rect.y);
+            x1 = Math.max(x1, rect.getRight());
+            y1 = Math.max(y1, rect.getBottom());
+        }
+        return new Rect(x0, y0, x1 - x0, y1 - y0);
+    }
+
+    /**
+     * Number of pixels in the region
+     */
+    public long getArea() {
+        long area = 0;
+        for (Rect rect : rectangles) {
+            area += (long) rect.width * rect.height;
+        }
+        return area;
+    }
+
+    /**
+     * Whether the region covers every pixel of a width x height image
+     */
+    public boolean covers(int width, int height) {
+        for (Rect rect : rectangles) {
+            if (rect.x <= 0 && rect.y <= 0 && rect.getRight() >= width && rect.getBottom() >= height) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public DirtyRegion union(DirtyRegion other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return other;
+        }
+        List<Rect> merged = new ArrayList<>(rectangles);
+        for (Rect rect : other.rectangles) {
+            add(merged, rect);
+        }
+        return normalize(merged);
+    }
+
+    public DirtyRegion union(int x, int y, int width, int height) {
+        return union(of(x, y, width, height));
+    }
+
+    /**
+     * Restrict the region to the bounds of a width x height image
+     */
+    public DirtyRegion clip(int width, int height) {
+        List<Rect> clipped = new ArrayList<>(rectangles.size());
+        for (Rect rect : rectangles) {
+            int x0 = Math.max(rect.x, 0);
+            int y0 = Math.max(rect.y, 0);
+            int x1 = Math.min(rect.getRight(), width);
+            int y1 = Math.min(rect.getBottom(), height);
+            if (x0 < x1 && y0 < y1) {
+                clipped.add(new Rect(x0, y0, x1 - x0, y1 - y0));
+            }
+        }
+        return clipped.isEmpty() ? EMPTY : new DirtyRegion(Collections.unmodifiableList(clipped));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DirtyRegion[%d rect(s), %d px, bounds=%s]",
+            rectangles.size(), getArea(), getBounds());
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * Insert a rectangle, merging it with every rectangle it overlaps
+     */
+    private static void add(List<Rect> rects, Rect rect) {
+        Rect current = rect;
+        boolean merged;
+        do {
+            merged = false;
+            for (int i = 0; i < rects.size(); i++) {
+                Rect existing = rects.get(i);
+                if (existing.contains(current)) {
+                    return;
+                }
+                if (existing.intersects(current)) {
+                    current = existing.bounds(current);
+                    rects.remove(i);
+                    merged = true;
+                    break;
+                }
+            }
+        } while (merged);
+        rects.add(current);
+    }
+
+    private static DirtyRegion normalize(List<Rect> rects) {
+        if (rects.size() > MAX_RECTANGLES) {
+            Rect bounds = new DirtyRegion(rects).getBounds();
+            return new DirtyRegion(Collections.singletonList(bounds));
+        }
+        return new DirtyRegion(Collections.unmodifiableList(rects));
+    }
+
+    // ==================== Nested Types ====================
+
+    /**
+     * Immutable pixel rectangle
+     */
+    public static final class Rect {
+        private final int x;
+        private final int y;
+        private final int width;
+        private final int height;
+
+        public Rect(int x, int y, int width, int height) {
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+
+        public int getX() { return x; }
+        public int getY() { return y; }
+        public int getWidth() { return width; }
+        public int getHeight() { return height; }
+        public int getRight() { return x + width; }
+        public int getBottom() { return y + height; }
+
+        boolean intersects(Rect other) {
+            return x < other.getRight() && other.x < getRight()
+                && y < other.getBottom() && other.y < getBottom();
+        }
+
+        boolean contains(Rect other) {
+            return x <= other.x && y <= other.y
+                && getRight() >= other.getRight() && getBottom() >= other.getBottom();
+        }
+
+        Rect bounds(Rect other) {
+            int x0 = Math.min(x, other.x);
+            int y0 = Math.min(y, other.y);
+            return new Rect(x0, y0,
+                Math.max(getRight(), other.getRight()) - x0,
+                Math.max(getBottom(), other.getBottom()) - y0);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%dx%d@(%d,%d)", width, height, x, y);
+        }
+    }
+}
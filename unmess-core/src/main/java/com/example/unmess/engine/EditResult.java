@@ -0,0 +1,40 @@
+package com.example.unmess.engine;
+
+import java.util.Objects;
+
+/**
+ * Output of an engine edit: the new image and the region that differs
+ * from the input.
+ *
+ * Filters and transforms report the whole image (operations that change
+ * the image size, its new bounds); only {@link OperationReplayer#applyPatch}
+ * reports a partial region.
+ *
+ * @author Photo Editor Engineering Team
+ * @version 1.0.0
+ */
+public final class EditResult {
+
+    private final Raster image;
+    private final DirtyRegion dirtyRegion;
+
+    public EditResult(Raster image, DirtyRegion dirtyRegion) {
+        this.image = Objects.requireNonNull(image, "Image cannot be null");
+        this.dirtyRegion = Objects.requireNonNull(dirtyRegion, "Dirty region cannot be null");
+    }
+
+    /**
+     * Result of an operation that may have changed every pixel
+     */
+    public static EditResult full(Raster image) {
+        return new EditResult(image, DirtyRegion.full(image.getWidth(), image.getHeight()));
+    }
+
+    public Raster getImage() { return image; }
+    public DirtyRegion getDirtyRegion() { return dirtyRegion; }
+
+    @Override
+    public String toString() {
+        return String.format("EditResult[%s, %s]", image, dirtyRegion);
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.unmess.engine;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Immutable 256-bin histograms of the red, green, blue and BT.709 luminance
+ * values of an image.
+ *
+ * {@link #of(Raster)} fills all four histograms in a single pass over the
+ * pixels. Row bands run in parallel, each counting into its own partial
+ * histogram, and the partials are merged once per band at the end, so
+ * threads never share counters inside the pixel loop.
+ *
+ * @author Photo Editor Engineering Team
+ * @version 1.0.0
+ */
+public final class Histogram {
+
+    public static final int BINS = 256;
+
+    /**
+     * Histogram channel
+     */
+    public enum Channel {
+        RED, GREEN, BLUE, LUMA
+    }
+
+    // Channel-major counts: counts[channel.ordinal() * BINS + value]
+    private final long[] counts;
+    private final long pixelCount;
+
+    private Histogram(long[] counts, long pixelCount) {
+        this.counts = counts;
+        this.pixelCount = pixelCount;
+    }
+
+    /**
+     * Compute the histograms of a raster
+     */
+    public static Histogram of(Raster image) {
+        Objects.requireNonNull(image, "Image cannot be null");
+        int width = image.getWidth();
+        int[] pixels = image.getPixels();
+        long[] totals = new long[Channel.values().length * BINS];
+
+        ParallelBands.forEach(image.getHeight(), 64, (y0, y1) -> {
+            int[] partial = new int[totals.length];
+            for (int y = y0; y < y1; y++) {
+                accumulate(pixels, image.indexOf(0, y), width, partial);
+            }
+            synchronized (totals) {
+                for (int i = 0; i < totals.length; i++) {
+                    totals[i] += partial[i];
+                }
+            }
+        });
+
+        return new Histogram(totals, (long) width * image.getHeight());
+    }
+
+    /**
+     * Wrap channel-major counts (not copied) as a histogram
+     */
+    static Histogram fromCounts(long[] counts, long pixelCount) {
+        return new Histogram(counts, pixelCount);
+    }
+
+    public long getPixelCount() {
+        return pixelCount;
+    }
+
+    /**
+     * Number of pixels whose channel equals {@code value}
+     */
+    public long getCount(Channel channel, int value) {
+        return counts[channel.ordinal() * BINS + value];
+    }
+
+    /**
+     * Copy of one channel's 256 counts
+     */
+    public long[] getCounts(Channel channel) {
+        int offset = channel.ordinal() * BINS;
+        return Arrays.copyOfRange(counts, offset, offset + BINS);
+    }
+
+    /**
+     * Smallest value such that at least {@code fraction} of the pixels are
+     * at or below it
+     *
+     * @param fraction Cumulative fraction [0.0 to 1.0]
+     */
+    public int percentile(Channel channel, double fraction) {
+        long target = (long) Math.ceil(Math.max(0.0, Math.min(1.0, fraction)) * pixelCount);
+        int offset = channel.ordinal() * BINS;
+        long seen = 0;
+        for (int value = 0; value < BINS; value++) {
+            seen += counts[offset + value];
+            if (seen >= target && seen > 0) {
+                return value;
+            }
+        }
+        return BINS - 1;
+    }
+
+    /**
+     * Mean value of a channel [0.0 to 255.0]
+     */
+    public double mean(Channel channel) {
+        if (pixelCount == 0) {
+            return 0.0;
+        }
+        int offset = channel.ordinal() * BINS;
+        double sum = 0;
+        for (int value = 0; value < BINS; value++) {
+            sum += (double) value * counts[offset + value];
+        }
+        return sum / pixelCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Histogram[%d px, luma p1=%d p50=%d p99=%d]", pixelCount,
+            percentile(Channel.LUMA, 0.01), percentile(Channel.LUMA, 0.5), percentile(Channel.LUMA, 0.99));
+    }
+
+    /**
+     * Add a row span of pixels to channel-major counts
+     */
+    static void accumulate(int[] pixels, int offset, int length, int[] counts) {
+        for (int i = offset; i < offset + length; i++) {
+            int argb = pixels[i];
+            counts[(argb >> 16) & 0xFF]++;
+            counts[BINS + ((argb >> 8) & 0xFF)]++;
+            counts[2 * BINS + (argb & 0xFF)]++;
+            counts[3 * BINS + IntegralImage.luma(argb)]++;
+        }
+    }
+}
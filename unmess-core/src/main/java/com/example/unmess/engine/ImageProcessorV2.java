@@ -0,0 +1,1592 @@
+package com.example.unmess.engine;
+
+import com.example.unmess.core.Constants;
+import com.example.unmess.core.Logger;
+import com.example.unmess.core.MetricsRegistry;
+import com.example.unmess.core.ValidationException;
+import com.example.unmess.core.Validator;
+import com.example.unmess.jfr.EngineOperationEvent;
+
+import java.util.function.Supplier;
+
+/**
+ * Advanced image processing engine with validation, logging, and error handling.
+ * 
+ * Architecture:
+ * - Headless: operates on packed ARGB {@link Raster}s, no JavaFX dependency
+ * - Immutable operations (input images are never modified)
+ * - Results are leased from {@link RasterPool}; callers release them when
+ *   done so interactive previews recycle buffers instead of allocating
+ * - Comprehensive validation of all parameters
+ * - Per-operation latency, throughput and allocation metrics
+ *   recorded in {@link MetricsRegistry}
+ * - Every operation emits an {@link EngineOperationEvent} for Flight Recorder
+ * - Thread-safe design
+ * 
+ * Performance Characteristics:
+ * - Brightness/Contrast: O(width * height), exact 256-entry tables, parallel
+ * - Saturation/Sepia/Grayscale: O(width * height), Q12/Q16 fixed point on
+ *   packed pixels (within 1 level of double math), parallel
+ * - Tone curve: O(width * height), one LUT lookup per pixel plus Levels/Curves tables
+ * - Hue/Vibrance: O(width * height), Vector API lanes with scalar fallback, parallel
+ * - Clarity: O(width * height) for any radius (summed-area table), parallel
+ * - Noise reduction: O(width * height) guided filter, parallel tiles
+ * - Median: O(width * height) for any radius (histogram sliding), parallel tiles
+ * - Auto Tone/Contrast/Color: O(width * height) lookups from a {@link Histogram}
+ * - 3D LUT: O(width * height) tetrahedral interpolation, Vector API lanes, parallel
+ * - Blur: O(width * height * radius^2), optionally in linear light ({@link SrgbTransfer})
+ * - Sharpen: O(width * height * 9)
+ * - Crop: O(1), a view sharing the source pixels (no copy)
+ * - Rotate/Warp: O(width * height), affine or perspective, incremental
+ *   per-row remap tables, parallel tiles ({@link ProjectiveTransform})
+ * - Resize: separable weight tables, O(output * taps) plus halving for
+ *   large reductions, parallel rows ({@link ResampleFilter})
+ * - High precision: brightness, contrast, saturation and tone curve also
+ *   accept a {@link FloatRaster}, so chains round to 8 bits only once
+ * 
+ * @author Photo Editor Engineering Team
+ * @version 2.0.0
+ */
+public final class ImageProcessorV2 {
+    
+    private ImageProcessorV2() {
+        throw new AssertionError("Utility class cannot be instantiated");
+    }
+    
+    /**
+     * Adjust image brightness.
+     * 
+     * Algorithm: Linear adjustment of RGB channels, tabulated once per call
+     * for the 256 channel values, so the result is exact
+     * Complexity: O(width * height), one table lookup per channel, parallel rows
+     * 
+     * @param image Source image (not modified)
+     * @param factor Brightness adjustment [-1.0 to 1.0]
+     *               -1.0 = completely black
+     *                0.0 = no change
+     *                1.0 = completely white
+     * @return New image with adjusted brightness
+     * @throws ValidationException if parameters are invalid
+     */
+    public static Raster adjustBrightness(Raster image, double factor) 
+            throws ValidationException {
+        
+        Validator.requireNonNull(image, "image");
+        Validator.validateAdjustment(factor, 
+            Constants.BRIGHTNESS_MIN, Constants.BRIGHTNESS_MAX, "brightness");
+        
+        MetricsRegistry.Sample sample = MetricsRegistry.start("brightness");
+        EngineOperationEvent event = new EngineOperationEvent();
+        event.begin();
+        long bandMark = ParallelBands.getScheduledBands();
+        Logger.debug(() -> String.format("Adjusting brightness: factor=%.2f", factor));
+        
+        int width = image.getWidth();
+        int height = image.getHeight();
+        Raster result = RasterPool.acquire(width, height);
+        ChannelLut table = ChannelLut.uniform(v -> PixelOperations.clamp(v + factor));
+        applyRows(image, result, table::applyRow);
+        
+        commitEvent(event, bandMark, "brightness", image, () -> String.format("factor=%.2f", factor));
+        long elapsed = sample.stop((long) width * height);
+        Logger.info(() -> String.format("Brightness adjusted in %dms", elapsed));
+        
+        return result;
+    }
+
+    /**
+     * Adjust image contrast.
+     * 
+     * Algorithm: Scales deviation from middle gray (0.5), tabulated once per
+     * call for the 256 channel values, so the result is exact
+     * Complexity: O(width * height), one table lookup per channel, parallel rows
+     * 
+     * @param image Source image
+     * @param factor Contrast adjustment [-1.0 to 1.0]
+     *               -1.0 = no contrast (gray)
+     *                0.0 = no change
+     *                1.0 = maximum contrast
+     * @return New image with adjusted contrast
+     * @throws ValidationException if parameters are invalid
+     */
+    public static Raster adjustContrast(Raster image, double factor) 
+            throws ValidationException {
+        
+        Validator.requireNonNull(image, "image");
+        Validator.validateAdjustment(factor,
+            Constants.CONTRAST_MIN, Constants.CONTRAST_MAX, "contrast");
+        
+        MetricsRegistry.Sample sample = MetricsRegistry.start("contrast");
+        EngineOperationEvent event = new EngineOperationEvent();
+        event.begin();
+        long bandMark = ParallelBands.getScheduledBands();
+        Logger.debug(() -> String.format("Adjusting contrast: factor=%.2f", factor));
+        
+        int width = image.getWidth();
+        int height = image.getHeight();
+        Raster result = RasterPool.acquire(width, height);
+        double contrastFactor = (1.0 + factor);
+        ChannelLut table = ChannelLut.uniform(v -> PixelOperations.clamp((v - 0.5) * contrastFactor + 0.5));
+        applyRows(image, result, table::applyRow);
+        
+        commitEvent(event, bandMark, "contrast", image, () -> String.format("factor=%.2f", factor));
+        long elapsed = sample.stop((long) width * height);
+        Logger.info(() -> String.format("Contrast adjusted in %dms", elapsed));
+        
+        return result;
+    }
+    
+    /**
+     * Adjust image saturation.
+     * 
+     * Algorithm: Interpolates between BT.709 grayscale and original color,
+     * expressed as a Q12 color matrix (within 1 level of double math); SIMD
+     * when the Vector API is enabled
+     * Complexity: O(width * height), parallel rows
+     * 
+     * @param image Source image
+     * @param factor Saturation adjustment [-1.0 to 1.0]
+     *               -1.0 = grayscale
+     *                0.0 = no change
+     *                1.0 = highly saturated
+     * @return New image with adjusted saturation
+     * @throws ValidationException if parameters are invalid
+     */
+    public static Raster adjustSaturation(Raster image, double factor) 
+            throws ValidationException {
+        
+        Validator.requireNonNull(image, "image");
+        Validator.validateAdjustment(factor,
+            Constants.SATURATION_MIN, Constants.SATURATION_MAX, "saturation");
+        
+        MetricsRegistry.Sample sample = MetricsRegistry.start("saturation");
+        EngineOperationEvent event = new EngineOperationEvent();
+        event.begin();
+        long bandMark = ParallelBands.getScheduledBands();
+        Logger.debug(() -> String.format("Adjusting saturation: factor=%.2f", factor));
+        
+        int width = image.getWidth();
+        int height = image.getHeight();
+        Raster result = RasterPool.acquire(width, height);
+        int[] matrix = ColorKernels.saturationMatrix(factor);
+        applyRows(image, result, (src, srcOffset, dst, dstOffset, length) ->
+            ColorKernels.matrixRow(src, srcOffset, dst, dstOffset, length, matrix));
+        
+        commitEvent(event, bandMark, "saturation", image, () -> String.format("factor=%.2f", factor));
+        long elapsed = sample.stop((long) width * height);
+        Logger.info(() -> String.format("Saturation adjusted in %dms", elapsed));
+        
+        return result;
+    }
+    
+    /**
+     * Apply a compiled tone curve (exposure, brightness, contrast and the Tone tab).
+     * 
+     * Algorithm: 12-bit BT.709 luminance indexes the curve's LUT, whose entry
+     * scales all three channels by a common gain and adds a black lift; the
+     * curve's Levels/Curves tables then map each channel in the same loop,
+     * run over parallel row bands
+     * Complexity: O(width * height), one table lookup per pixel (plus three
+     * per-channel lookups when Levels or Curves are set)
+     * 
+     * @param image Source image
+     * @param curve Tone curve built from the slider values
+     * @return New image with the curve applied
+     * @throws ValidationException if parameters are invalid
+     */
+    public static Raster applyToneCurve(Raster image, ToneCurve curve)
+            throws ValidationException {
+        
+        Validator.requireNonNull(image, "image");
+        Validator.requireNonNull(curve, "curve");
+        
+        if (curve.isIdentity()) {
+            return RasterPool.acquireCopy(image);
+        }
+        
+        MetricsRegistry.Sample sample = MetricsRegistry.start("tone");
+        EngineOperationEvent event = new EngineOperationEvent();
+        event.begin();
+        long bandMark = ParallelBands.getScheduledBands();
+        Logger.debug(() -> "Applying " + curve);
+        
+        int width = image.getWidth();
+        int height = image.getHeight();
+        Raster result = RasterPool.acquire(width, height);
+        int[] lut = curve.getLut();
+        ChannelLut channels = curve.getChannels();
+        boolean perChannel = !channels.isIdentity();
+        
+        if (curve.isLuminanceIdentity()) {
+            applyRows(image, result, channels::applyRow);
+        } else {
+            applyRows(image, result, (src, srcOffset, dst, dstOffset, length) -> {
+                for (int x = 0; x < length; x++) {
+                    int argb = src[srcOffset + x];
+                    int entry = lut[ToneCurve.lumaIndex(argb)];
+                    int gain = entry >>> 8;
+                    int lift = entry & 0xFF;
+                    int r = Math.min(255, ((((argb >> 16) & 0xFF) * gain + 2048) >> 12) + lift);
+                    int g = Math.min(255, ((((argb >> 8) & 0xFF) * gain + 2048) >> 12) + lift);
+                    int b = Math.min(255, (((argb & 0xFF) * gain + 2048) >> 12) + lift);
+                    // Levels and Curves; the branch is loop-invariant
+                    if (perChannel) {
+                        r = channels.mapRed(r);
+                        g = channels.mapGreen(g);
+                        b = channels.mapBlue(b);
+                    }
+                    dst[dstOffset + x] = (argb & 0xFF000000) | (r << 16) | (g << 8) | b;
+                }
+            });
+        }
+        
+        commitEvent(event, bandMark, "tone", image, curve::toString);
+        long elapsed = sample.stop((long) width * height);
+        Logger.info(() -> String.format("Tone curve applied in %dms", elapsed));
+        
+        return result;
+    }
+    
+    /**
+     * Adjust brightness of a high-precision raster.
+     * 
+     * Same formula as the 8-bit overload without rounding, parallel rows
+     * 
+     * @param image Source image (not modified)
+     * @param factor Brightness adjustment [-1.0 to 1.0]
+     * @return New high-precision image
+     * @throws ValidationException if parameters are invalid
+     */
+    public static FloatRaster adjustBrightness(FloatRaster image, double factor)
+            throws ValidationException {
+        return adjustBrightness(image, factor, null);
+    }
+    
+    /**
+     * Adjust brightness of a high-precision raster into a caller-owned raster.
+     * 
+     * @param image Source image (not modified unless it is {@code result})
+     * @param factor Brightness adjustment [-1.0 to 1.0]
+     * @param result Destination of the same size, {@code image} to work in place,
+     *        or null for a new raster
+     * @return The destination raster
+     * @throws ValidationException if parameters are invalid
+     */
+    public static FloatRaster adjustBrightness(FloatRaster image, double factor, FloatRaster result)
+            throws ValidationException {
+        
+        Validator.requireNonNull(image, "image");
+        Validator.validateAdjustment(factor,
+            Constants.BRIGHTNESS_MIN, Constants.BRIGHTNESS_MAX, "brightness");
+        
+        float offset = (float) factor;
+        return applyPointFloat(image, result, "brightnessFloat", () -> String.format("factor=%.2f", factor),
+            (r, g, b, from, to) -> {
+                for (int i = from; i < to; i++) {
+                    r[i] = clampUnit(r[i] + offset);
+                    g[i] = clampUnit(g[i] + offset);
+                    b[i] = clampUnit(b[i] + offset);
+                }
+            });
+    }
+    
+    /**
+     * Adjust contrast of a high-precision raster.
+     * 
+     * Same formula as the 8-bit overload without rounding, parallel rows
+     * 
+     * @param image Source image (not modified)
+     * @param factor Contrast adjustment [-1.0 to 1.0]
+     * @return New high-precision image
+     * @throws ValidationException if parameters are invalid
+     */
+    public static FloatRaster adjustContrast(FloatRaster image, double factor)
+            throws ValidationException {
+        return adjustContrast(image, factor, null);
+    }
+    
+    /**
+     * Adjust contrast of a high-precision raster into a caller-owned raster.
+     * 
+     * @param image Source image (not modified unless it is {@code result})
+     * @param factor Contrast adjustment [-1.0 to 1.0]
+     * @param result Destination of the same size, {@code image} to work in place,
+     *        or null for a new raster
+     * @return The destination raster
+     * @throws ValidationException if parameters are invalid
+     */
+    public static FloatRaster adjustContrast(FloatRaster image, double factor, FloatRaster result)
+            throws ValidationException {
+        
+        Validator.requireNonNull(image, "image");
+        Validator.validateAdjustment(factor,
+            Constants.CONTRAST_MIN, Constants.CONTRAST_MAX, "contrast");
+        
+        float scale = (float) (1.0 + factor);
+        return applyPointFloat(image, result, "contrastFloat", () -> String.format("factor=%.2f", factor),
+            (r, g, b, from, to) -> {
+                for (int i = from; i < to; i++) {
+                    r[i] = clampUnit((r[i] - 0.5f) * scale + 0.5f);
+                    g[i] = clampUnit((g[i] - 0.5f) * scale + 0.5f);
+                    b[i] = clampUnit((b[i] - 0.5f) * scale + 0.5f);
+                }
+            });
+    }
+    
+    /**
+     * Adjust saturation of a high-precision raster.
+     * 
+     * Same formula as the 8-bit overload without rounding, parallel rows
+     * 
+     * @param image Source image (not modified)
+     * @param factor Saturation adjustment [-1.0 to 1.0]
+     * @return New high-precision image
+     * @throws ValidationException if parameters are invalid
+     */
+    public static FloatRaster adjustSaturation(FloatRaster image, double factor)
+            throws ValidationException {
+        return adjustSaturation(image, factor, null);
+    }
+    
+    /**
+     * Adjust saturation of a high-precision raster into a caller-owned raster.
+     * 
+     * @param image Source image (not modified unless it is {@code result})
+     * @param factor Saturation adjustment [-1.0 to 1.0]
+     * @param result Destination of the same size, {@code image} to work in place,
+     *        or null for a new raster
+     * @return The destination raster
+     * @throws ValidationException if parameters are invalid
+     */
+    public static FloatRaster adjustSaturation(FloatRaster image, double factor, FloatRaster result)
+            throws ValidationException {
+        
+        Validator.requireNonNull(image, "image");
+        Validator.validateAdjustment(factor,
+            Constants.SATURATION_MIN, Constants.SATURATION_MAX, "saturation");
+        
+        float scale = (float) (1.0 + factor);
+        return applyPointFloat(image, result, "saturationFloat", () -> String.format("factor=%.2f", factor),
+            (r, g, b, from, to) -> {
+                for (int i = from; i < to; i++) {
+                    float gray = 0.2126f * r[i] + 0.7152f * g[i] + 0.0722f * b[i];
+                    r[i] = clampUnit(gray + (r[i] - gray) * scale);
+                    g[i] = clampUnit(gray + (g[i] - gray) * scale);
+                    b[i] = clampUnit(gray + (b[i] - gray) * scale);
+                }
+            });
+    }
+    
+    /**
+     * Apply a tone curve to a high-precision raster.
+     * 
+     * Algorithm: BT.709 luminance interpolates the curve's samples; all three
+     * channels are scaled by the same gain and lifted by the same black
+     * offset as in the 8-bit overload, then Levels/Curves tables are applied
+     * with linear interpolation between entries
+     * Complexity: O(width * height), parallel rows
+     * 
+     * @param image Source image (not modified)
+     * @param curve Tone curve built from the slider values
+     * @return New high-precision image
+     * @throws ValidationException if parameters are invalid
+     */
+    public static FloatRaster applyToneCurve(FloatRaster image, ToneCurve curve)
+            throws ValidationException {
+        return applyToneCurve(image, curve, null);
+    }
+    
+    /**
+     * Apply a tone curve to a high-precision raster into a caller-owned raster.
+     * 
+     * @param image Source image (not modified unless it is {@code result})
+     * @param curve Tone curve built from the slider values
+     * @param result Destination of the same size, {@code image} to work in place,
+     *        or null for a new raster
+     * @return The destination raster
+     * @throws ValidationException if parameters are invalid
+     */
+    public static FloatRaster applyToneCurve(FloatRaster image, ToneCurve curve, FloatRaster result)
+            throws ValidationException {
+        
+        Validator.requireNonNull(image, "image");
+        Validator.requireNonNull(curve, "curve");
+        
+        float[] samples = curve.getSamples();
+        float lift = samples[0];
+        float last = ToneCurve.LUT_SIZE - 1;
+        ChannelLut channels = curve.getChannels();
+        boolean luminance = !curve.isLuminanceIdentity();
+        boolean perChannel = !channels.isIdentity();
+        
+        return applyPointFloat(image, result, "toneFloat", curve::toString, (r, g, b, from, to) -> {
+            if (luminance) {
+                for (int i = from; i < to; i++) {
+                    float luma = 0.2126f * r[i] + 0.7152f * g[i] + 0.0722f * b[i];
+                    float position = clampUnit(luma) * last;
+                    int index = Math.min(ToneCurve.LUT_SIZE - 2, (int) position);
+                    float target = samples[index] + (samples[index + 1] - samples[index]) * (position - index);
+                    // Black lift fades out towards white; the gain supplies the rest
+                    float bias = lift * (1f - clampUnit(luma));
+                    float gain = luma > 0f ? (target - bias) / luma : 1f;
+                    gain = gain < 0f ? 0f : (gain > 255f ? 255f : gain);
+                    r[i] = clampUnit(r[i] * gain + bias);
+                    g[i] = clampUnit(g[i] * gain + bias);
+                    b[i] = clampUnit(b[i] * gain + bias);
+                }
+            }
+            if (perChannel) {
+                channels.applyUnit(r, g, b, from, to);
+            }
+        });
+    }
+    
+    /**
+     * Apply per-channel lookup tables.
+     * 
+     * Complexity: O(width * height), three table lookups per pixel
+     * 
+     * @param image Source image
+     * @param lut Channel tables
+     * @return New image with the tables applied
+     * @throws ValidationException if parameters are invalid
+     */
+    public static Raster applyChannelLut(Raster image, ChannelLut lut) throws ValidationException {
+        return applyChannelLut(image, lut, "lut");
+    }
+    
+    /**
+     * Apply a 3D color lookup table (e.g. a .cube look).
+     * 
+     * Algorithm: tetrahedral interpolation in the LUT lattice, Vector API
+     * lanes with scalar fallback, parallel row bands
+     * Complexity: O(width * height), four lattice loads per pixel for any LUT size
+     * 
+     * @param image Source image
+     * @param lut Color lookup table
+     * @return New image with the LUT applied
+     * @throws ValidationException if parameters are invalid
+     */
+    public static Raster applyLut3D(Raster image, ColorLut3D lut) throws ValidationException {
+        Validator.requireNonNull(image, "image");
+        Validator.requireNonNull(lut, "lut");
+        
+        MetricsRegistry.Sample sample = MetricsRegistry.start("lut3d");
+        EngineOperationEvent event = new EngineOperationEvent();
+        event.begin();
+        long bandMark = ParallelBands.getScheduledBands();
+        Logger.debug(() -> "Applying " + lut);
+        
+        int width = image.getWidth();
+        int height = image.getHeight();
+        Raster result = RasterPool.acquire(width, height);
+        int[] src = image.getPixels();
+        int[] dst = result.getPixels();
+        
+        ParallelBands.forEach(height, (y0, y1) -> {
+            for (int y = y0; y < y1; y++) {
+                lut.applyRow(src, image.indexOf(0, y), dst, result.indexOf(0, y), width);
+            }
+        });
+        
+        commitEvent(event, bandMark, "lut3d", image, lut::toString);
+        long elapsed = sample.stop((long) width * height);
+        Logger.info(() -> String.format("3D LUT applied in %dms", elapsed));
+        
+        return result;
+    }
+    
+    /**
+     * Auto Tone: stretch each channel between its clip percentiles.
+     * 
+     * @param image Source image
+     * @param histogram Histogram of {@code image}, e.g. cached by the caller
+     * @return Corrected image
+     * @throws ValidationException if parameters are invalid
+     */
+    public static Raster autoTone(Raster image, Histogram histogram) throws ValidationException {
+        Validator.requireNonNull(histogram, "histogram");
+        return applyChannelLut(image, ChannelLut.autoTone(histogram, Constants.AUTO_CLIP_FRACTION), "autoTone");
+    }
+    
+    /**
+     * Auto Contrast: stretch all channels between the luminance clip percentiles.
+     * 
+     * @param image Source image
+     * @param histogram Histogram of {@code image}
+     * @return Corrected image
+     * @throws ValidationException if parameters are invalid
+     */
+    public static Raster autoContrast(Raster image, Histogram histogram) throws ValidationException {
+        Validator.requireNonNull(histogram, "histogram");
+        return applyChannelLut(image, ChannelLut.autoContrast(histogram, Constants.AUTO_CLIP_FRACTION),
+            "autoContrast");
+    }
+    
+    /**
+     * Auto Color: per-channel stretch with neutralized midtones.
+     * 
+     * @param image Source image
+     * @param histogram Histogram of {@code image}
+     * @return Corrected image
+     * @throws ValidationException if parameters are invalid
+     */
+    public static Raster autoColor(Raster image, Histogram histogram) throws ValidationException {
+        Validator.requireNonNull(histogram, "histogram");
+        return applyChannelLut(image, ChannelLut.autoColor(histogram, Constants.AUTO_CLIP_FRACTION), "autoColor");
+    }
+    
+    /**
+     * Rotate hue around the gray axis.
+     * 
+     * Algorithm: Luminance-preserving 3x3 RGB matrix in Q12 fixed point,
+     * SIMD when the Vector API is enabled
+     * Complexity: O(width * height), parallel rows
+     * 
+     * @param image Source image
+     * @param degrees Hue rotation [-180 to 180]
+     * @return New image with rotated hue
+     * @throws ValidationException if parameters are invalid
+     */
+    public static Raster rotateHue(Raster image, double degrees) throws ValidationException {
+        return rotateHue(image, degrees, false);
+    }
+    
+    /**
+     * Rotate hue, optionally with an exact HSL hue shift.
+     * 
+     * The matrix path is fast but only approximates an HSL hue shift; the
+     * exact path keeps lightness and saturation unchanged per pixel and
+     * runs scalar. Both run in parallel row bands.
+     * 
+     * @param image Source image
+     * @param degrees Hue rotation [-180 to 180]
+     * @param exact true for the exact HSL path
+     * @return New image with rotated hue
+     * @throws ValidationException if parameters are invalid
+     */
+    public static Raster rotateHue(Raster image, double degrees, boolean exact)
+            throws ValidationException {
+        
+        Validator.requireNonNull(image, "image");
+        Validator.validateAdjustment(degrees, Constants.HUE_MIN, Constants.HUE_MAX, "hue");
+        
+        if (degrees == 0) {
+            return RasterPool.acquireCopy(image);
+        }
+        
+        MetricsRegistry.Sample sample = MetricsRegistry.start("hue");
+        EngineOperationEvent event = new EngineOperationEvent();
+        event.begin();
+        long bandMark = ParallelBands.getScheduledBands();
+        Logger.debug(() -> String.format("Rotating hue: degrees=%.1f exact=%b", degrees, exact));
+        
+        int width = image.getWidth();
+        int height = image.getHeight();
+        Raster result = RasterPool.acquire(width, height);
+        if (exact) {
+            double shift = (degrees / 60.0 + 6.0) % 6.0;
+            applyRows(image, result, (src, srcOffset, dst, dstOffset, length) ->
+                ColorKernels.hslHueRow(src, srcOffset, dst, dstOffset, length, shift));
+        } else {
+            int[] matrix = ColorKernels.hueMatrix(degrees);
+            applyRows(image, result, (src, srcOffset, dst, dstOffset, length) ->
+                ColorKernels.matrixRow(src, srcOffset, dst, dstOffset, length, matrix));
+        }
+        
+        commitEvent(event, bandMark, "hue", image, () -> String.format("degrees=%.1f exact=%b vectorized=%b",
+            degrees, exact, ColorKernels.VECTORIZED && !exact));
+        long elapsed = sample.stop((long) width * height);
+        Logger.info(() -> String.format("Hue rotated in %dms", elapsed));
+        
+        return result;
+    }
+    
+    /**
+     * Adjust vibrance (saturation weighted by existing saturation).
+     * 
+     * Algorithm: Chroma around BT.709 luma is scaled by
+     * 1 + amount * (1 - saturation), so muted colors and skin tones change
+     * smoothly while already saturated colors do not clip; SIMD when the
+     * Vector API is enabled
+     * Complexity: O(width * height), parallel rows
+     * 
+     * @param image Source image
+     * @param amount Vibrance adjustment [-1.0 to 1.0]
+     * @return New image with adjusted vibrance
+     * @throws ValidationException if parameters are invalid
+     */
+    public static Raster adjustVibrance(Raster image, double amount) throws ValidationException {
+        Validator.requireNonNull(image, "image");
+        Validator.validateAdjustment(amount,
+            Constants.VIBRANCE_MIN, Constants.VIBRANCE_MAX, "vibrance");
+        
+        if (amount == 0) {
+            return RasterPool.acquireCopy(image);
+        }
+        
+        MetricsRegistry.Sample sample = MetricsRegistry.start("vibrance");
+        EngineOperationEvent event = new EngineOperationEvent();
+        event.begin();
+        long bandMark = ParallelBands.getScheduledBands();
+        Logger.debug(() -> String.format("Adjusting vibrance: amount=%.2f", amount));
+        
+        int width = image.getWidth();
+        int height = image.getHeight();
+        Raster result = RasterPool.acquire(width, height);
+        int amountQ12 = (int) Math.round(amount * ColorKernels.ONE);
+        applyRows(image, result, (src, srcOffset, dst, dstOffset, length) ->
+            ColorKernels.vibranceRow(src, srcOffset, dst, dstOffset, length, amountQ12));
+        
+        commitEvent(event, bandMark, "vibrance", image, () -> String.format("amount=%.2f vectorized=%b",
+            amount, ColorKernels.VECTORIZED));
+        long elapsed = sample.stop((long) width * height);
+        Logger.info(() -> String.format("Vibrance adjusted in %dms", elapsed));
+        
+        return result;
+    }
+    
+    /**
+     * Adjust clarity (midtone local contrast) with a radius scaled to the image.
+     * 
+     * @param image Source image
+     * @param amount Clarity adjustment [-1.0 to 1.0]
+     * @return New image with adjusted clarity
+     * @throws ValidationException if parameters are invalid
+     * @see #clarity(Raster, double, int)
+     */
+    public static Raster clarity(Raster image, double amount) throws ValidationException {
+        Validator.requireNonNull(image, "image");
+        int radius = (int) Math.round(Math.max(image.getWidth(), image.getHeight()) / 60.0);
+        return clarity(image, amount, PixelOperations.clampInt(radius,
+            Constants.CLARITY_RADIUS_MIN, Constants.CLARITY_RADIUS_MAX));
+    }
+    
+    /**
+     * Adjust clarity (midtone local contrast).
+     * 
+     * Algorithm: Luminance detail against a large box mean from an
+     * {@link IntegralImage}, weighted towards midtones and added equally
+     * to each channel; processed in parallel row bands
+     * Complexity: O(width * height), independent of radius
+     * 
+     * @param image Source image
+     * @param amount Clarity adjustment [-1.0 to 1.0]
+     *               -1.0 = soften local contrast
+     *                0.0 = no change
+     *                1.0 = double local contrast in midtones
+     * @param radius Box radius [1 to 100]
+     * @return New image with adjusted clarity
+     * @throws ValidationException if parameters are invalid
+     */
+    public static Raster clarity(Raster image, double amount, int radius) throws ValidationException {
+        Validator.requireNonNull(image, "image");
+        Validator.validateAdjustment(amount, Constants.CLARITY_MIN, Constants.CLARITY_MAX, "clarity");
+        Validator.requireInRange(radius, Constants.CLARITY_RADIUS_MIN, Constants.CLARITY_RADIUS_MAX, "radius");
+        
+        if (amount == 0) {
+            return RasterPool.acquireCopy(image);
+        }
+        
+        MetricsRegistry.Sample sample = MetricsRegistry.start("clarity");
+        EngineOperationEvent event = new EngineOperationEvent();
+        event.begin();
+        long bandMark = ParallelBands.getScheduledBands();
+        Logger.debug(() -> String.format("Adjusting clarity: amount=%.2f radius=%d", amount, radius));
+        
+        int width = image.getWidth();
+        int height = image.getHeight();
+        Raster result = RasterPool.acquire(width, height);
+        int[] src = image.getPixels();
+        int[] dst = result.getPixels();
+        int amountQ12 = (int) Math.round(amount * 4096);
+        
+        try (IntegralImage integral = IntegralImage.ofLuma(image)) {
+            ParallelBands.forEach(height, (y0, y1) -> {
+                for (int y = y0; y < y1; y++) {
+                    int srcRow = image.indexOf(0, y);
+                    int dstRow = result.indexOf(0, y);
+                    for (int x = 0; x < width; x++) {
+                        int argb = src[srcRow + x];
+                        int luma = IntegralImage.luma(argb);
+                        int detail = luma - integral.boxMean(x, y, radius);
+                        // Midtone weight in Q8: 256 at mid gray, ~0 at black and white
+                        int t = 2 * luma - 255;
+                        int weight = 256 - ((t * t) >> 8);
+                        int delta = (int) (((long) detail * weight * amountQ12 + (1 << 19)) >> 20);
+                        int r = PixelOperations.clampInt(((argb >> 16) & 0xFF) + delta, 0, 255);
+                        int g = PixelOperations.clampInt(((argb >> 8) & 0xFF) + delta, 0, 255);
+                        int b = PixelOperations.clampInt((argb & 0xFF) + delta, 0, 255);
+                        dst[dstRow + x] = (argb & 0xFF000000) | (r << 16) | (g << 8) | b;
+                    }
+                }
+            });
+        }
+        
+        commitEvent(event, bandMark, "clarity", image, () -> String.format("amount=%.2f radius=%d", amount, radius));
+        long elapsed = sample.stop((long) width * height);
+        Logger.info(() -> String.format("Clarity adjusted in %dms", elapsed));
+        
+        return result;
+    }
+    
+    /**
+     * Reduce noise with one strength for luma and chroma.
+     * 
+     * Chroma is treated 1.5x as strongly as luma (capped at 1.0), since
+     * color blotches are more objectionable and less detailed than
+     * luminance grain.
+     * 
+     * @param image Source image
+     * @param strength Noise reduction strength [0.0 to 1.0]
+     * @return Denoised image
+     * @throws ValidationException if parameters are invalid
+     * @see #reduceNoise(Raster, double, double)
+     */
+    public static Raster reduceNoise(Raster image, double strength) throws ValidationException {
+        Validator.validateAdjustment(strength,
+            Constants.NOISE_REDUCTION_MIN, Constants.NOISE_REDUCTION_MAX, "noiseReduction");
+        return reduceNoise(image, strength, Math.min(Constants.NOISE_REDUCTION_MAX, strength * 1.5));
+    }
+    
+    /**
+     * Edge-preserving noise reduction.
+     * 
+     * Algorithm: Self-guided filter on BT.709 Y, Cb and Cr planes with
+     * running-sum box statistics; chroma uses a larger window than luma.
+     * Tiles are processed in parallel.
+     * Complexity: O(width * height), independent of radius and strength
+     * 
+     * @param image Source image
+     * @param luma Luma noise reduction [0.0 to 1.0]
+     * @param chroma Chroma noise reduction [0.0 to 1.0]
+     * @return Denoised image
+     * @throws ValidationException if parameters are invalid
+     */
+    public static Raster reduceNoise(Raster image, double luma, double chroma)
+            throws ValidationException {
+        
+        Validator.requireNonNull(image, "image");
+        Validator.validateAdjustment(luma,
+            Constants.NOISE_REDUCTION_MIN, Constants.NOISE_REDUCTION_MAX, "luma");
+        Validator.validateAdjustment(chroma,
+            Constants.NOISE_REDUCTION_MIN, Constants.NOISE_REDUCTION_MAX, "chroma");
+        
+        if (luma == 0 && chroma == 0) {
+            return RasterPool.acquireCopy(image);
+        }
+        
+        MetricsRegistry.Sample sample = MetricsRegistry.start("denoise");
+        EngineOperationEvent event = new EngineOperationEvent();
+        event.begin();
+        long bandMark = ParallelBands.getScheduledBands();
+        Logger.debug(() -> String.format("Reducing noise: luma=%.2f chroma=%.2f", luma, chroma));
+        
+        int width = image.getWidth();
+        int height = image.getHeight();
+        Raster result = RasterPool.acquire(width, height);
+        GuidedDenoiser.denoise(image, result, luma, chroma);
+        
+        commitEvent(event, bandMark, "denoise", image, () -> String.format("luma=%.2f chroma=%.2f", luma, chroma));
+        long elapsed = sample.stop((long) width * height);
+        Logger.info(() -> String.format("Noise reduced in %dms", elapsed));
+        
+        return result;
+    }
+    
+    /**
+     * Apply a median filter (despeckle, dust and hot-pixel removal).
+     * 
+     * Algorithm: Perreault-Hebert constant-time median with two-level
+     * column histograms, per channel, in parallel tiles
+     * Complexity: O(width * height), independent of radius
+     * 
+     * @param image Source image
+     * @param radius Window radius [1 to 25]; the window is (2r + 1)^2 pixels
+     * @return Filtered image
+     * @throws ValidationException if parameters are invalid
+     */
+    public static Raster median(Raster image, int radius) throws ValidationException {
+        Validator.requireNonNull(image, "image");
+        Validator.requireInRange(radius, Constants.MEDIAN_RADIUS_MIN, Constants.MEDIAN_RADIUS_MAX, "radius");
+        
+        MetricsRegistry.Sample sample = MetricsRegistry.start("median");
+        EngineOperationEvent event = new EngineOperationEvent();
+        event.begin();
+        long bandMark = ParallelBands.getScheduledBands();
+        Logger.debug(() -> "Applying median filter: radius=" + radius);
+        
+        int width = image.getWidth();
+        int height = image.getHeight();
+        Raster result = RasterPool.acquire(width, height);
+        MedianFilter.filter(image, result, radius);
+        
+        commitEvent(event, bandMark, "median", image, () -> "radius=" + radius);
+        long elapsed = sample.stop((long) width * height);
+        Logger.info(() -> String.format("Median filter completed in %dms", elapsed));
+        
+        return result;
+    }
+    
+    /**
+     * Apply Gaussian blur filter.
+     * 
+     * Algorithm: Separable Gaussian convolution
+     * Complexity: O(width * height * radius)
+     * 
+     * @param image Source image
+     * @param radius Blur radius [0 to 10]
+     * @return Blurred image
+     * @throws ValidationException if parameters are invalid
+     */
+    public static Raster gaussianBlur(Raster image, int radius) 
+            throws ValidationException {
+        return gaussianBlur(image, radius, false);
+    }
+    
+    /**
+     * Apply Gaussian blur, optionally in linear light.
+     * 
+     * In linear light, channels are decoded from sRGB before averaging and
+     * re-encoded afterwards (both through {@link SrgbTransfer} tables), so
+     * bright detail does not darken as it spreads. Alpha is always linear.
+     * 
+     * @param image Source image
+     * @param radius Blur radius [0 to 10]
+     * @param linearLight Average linear light instead of encoded values
+     * @return Blurred image
+     * @throws ValidationException if parameters are invalid
+     */
+    public static Raster gaussianBlur(Raster image, int radius, boolean linearLight) 
+            throws ValidationException {
+        
+        Validator.requireNonNull(image, "image");
+        Validator.requireInRange(radius, 0, (int)Constants.BLUR_MAX, "blur radius");
+        
+        if (radius == 0) {
+            return RasterPool.acquireCopy(image);
+        }
+        
+        MetricsRegistry.Sample sample = MetricsRegistry.start("blur");
+        EngineOperationEvent event = new EngineOperationEvent();
+        event.begin();
+        long bandMark = ParallelBands.getScheduledBands();
+        Logger.debug(() -> String.format("Applying Gaussian blur: radius=%d, linear=%b", radius, linearLight));
+        
+        int width = image.getWidth();
+        int height = image.getHeight();
+        Raster result = RasterPool.acquire(width, height);
+        int[] src = image.getPixels();
+        int[] dst = result.getPixels();
+        
+        double[] kernel = createGaussianKernel(radius);
+        int kernelSize = kernel.length;
+        int halfSize = kernelSize / 2;
+        // Table lookups instead of a division per channel per tap, in either mode
+        double[] decode = SrgbTransfer.decodeTable(linearLight);
+        double[] unit = SrgbTransfer.decodeTable(false);
+        
+        for (int y = 0; y < height; y++) {
+            int dstRow = result.indexOf(0, y);
+            for (int x = 0; x < width; x++) {
+                double r = 0, g = 0, b = 0, a = 0;
+                
+                for (int ky = -halfSize; ky <= halfSize; ky++) {
+                    for (int kx = -halfSize; kx <= halfSize; kx++) {
+                        int px = PixelOperations.clampInt(x + kx, 0, width - 1);
+                        int py = PixelOperations.clampInt(y + ky, 0, height - 1);
+                        
+                        int argb = src[image.indexOf(px, py)];
+                        double weight = kernel[ky + halfSize] * kernel[kx + halfSize];
+                        
+                        r += decode[PixelOperations.getRed(argb)] * weight;
+                        g += decode[PixelOperations.getGreen(argb)] * weight;
+                        b += decode[PixelOperations.getBlue(argb)] * weight;
+                        a += unit[PixelOperations.getAlpha(argb)] * weight;
+                    }
+                }
+                dst[dstRow + x] = linearLight
+                    ? PixelOperations.toArgb(PixelOperations.denormalize(a),
+                        SrgbTransfer.encode(r), SrgbTransfer.encode(g), SrgbTransfer.encode(b))
+                    : PixelOperations.toArgb(PixelOperations.denormalize(a),
+                        PixelOperations.denormalize(r), PixelOperations.denormalize(g), PixelOperations.denormalize(b));
+            }
+        }
+        
+        commitEvent(event, bandMark, "blur", image, () -> "radius=" + radius + ", linear=" + linearLight);
+        long elapsed = sample.stop((long) width * height);
+        Logger.info(() -> String.format("Gaussian blur applied in %dms", elapsed));
+        
+        return result;
+    }
+    
+    /**
+     * Sharpen image using unsharp mask technique.
+     * 
+     * Algorithm: Laplacian kernel convolution
+     * Complexity: O(width * height * 9)
+     * 
+     * @param image Source image
+     * @param intensity Sharpening intensity [0.0 to 3.0]
+     * @return Sharpened image
+     * @throws ValidationException if parameters are invalid
+     */
+    public static Raster sharpen(Raster image, double intensity) 
+            throws ValidationException {
+        
+        Validator.requireNonNull(image, "image");
+        Validator.validateAdjustment(intensity,
+            Constants.SHARPEN_MIN, Constants.SHARPEN_MAX, "sharpen intensity");
+        
+        if (intensity == 0.0) {
+            return RasterPool.acquireCopy(image);
+        }
+        
+        MetricsRegistry.Sample sample = MetricsRegistry.start("sharpen");
+        EngineOperationEvent event = new EngineOperationEvent();
+        event.begin();
+        long bandMark = ParallelBands.getScheduledBands();
+        Logger.debug(() -> String.format("Applying sharpen: intensity=%.2f", intensity));
+        
+        int width = image.getWidth();
+        int height = image.getHeight();
+        Raster result = RasterPool.acquire(width, height);
+        int[] src = image.getPixels();
+        int[] dst = result.getPixels();
+        
+        // Laplacian kernel for edge detection
+        double[][] kernel = {
+            {0, -intensity, 0},
+            {-intensity, 1 + 4 * intensity, -intensity},
+            {0, -intensity, 0}
+        };
+        
+        for (int y = 0; y < height; y++) {
+            int dstRow = result.indexOf(0, y);
+            for (int x = 0; x < width; x++) {
+                double r = 0, g = 0, b = 0;
+                
+                for (int ky = -1; ky <= 1; ky++) {
+                    for (int kx = -1; kx <= 1; kx++) {
+                        int px = PixelOperations.clampInt(x + kx, 0, width - 1);
+                        int py = PixelOperations.clampInt(y + ky, 0, height - 1);
+                        
+                        int argb = src[image.indexOf(px, py)];
+                        double weight = kernel[ky + 1][kx + 1];
+                        
+                        r += PixelOperations.normalize(PixelOperations.getRed(argb)) * weight;
+                        g += PixelOperations.normalize(PixelOperations.getGreen(argb)) * weight;
+                        b += PixelOperations.normalize(PixelOperations.getBlue(argb)) * weight;
+                    }
+                }
+                
+                int original = src[image.indexOf(x, y)];
+                dst[dstRow + x] = PixelOperations.toArgb(
+                    PixelOperations.getAlpha(original),
+                    PixelOperations.denormalize(r),
+                    PixelOperations.denormalize(g),
+                    PixelOperations.denormalize(b)
+                );
+            }
+        }
+        
+        commitEvent(event, bandMark, "sharpen", image, () -> String.format("intensity=%.2f", intensity));
+        long elapsed = sample.stop((long) width * height);
+        Logger.info(() -> String.format("Sharpen applied in %dms", elapsed));
+        
+        return result;
+    }
+    
+    /**
+     * Convert image to grayscale.
+     * 
+     * Algorithm: Luminosity method (ITU-R BT.709) with Q16 weights (within
+     * 1 level of double math)
+     * Complexity: O(width * height), parallel rows
+     * 
+     * @param image Source image
+     * @return Grayscale image
+     * @throws ValidationException if image is null
+     */
+    public static Raster toGrayscale(Raster image) throws ValidationException {
+        Validator.requireNonNull(image, "image");
+        
+        MetricsRegistry.Sample sample = MetricsRegistry.start("grayscale");
+        EngineOperationEvent event = new EngineOperationEvent();
+        event.begin();
+        long bandMark = ParallelBands.getScheduledBands();
+        Logger.debug("Converting to grayscale");
+        
+        int width = image.getWidth();
+        int height = image.getHeight();
+        Raster result = RasterPool.acquire(width, height);
+        applyRows(image, result, ColorKernels::grayRow);
+        
+        commitEvent(event, bandMark, "grayscale", image, () -> "");
+        long elapsed = sample.stop((long) width * height);
+        Logger.info(() -> String.format("Grayscale conversion completed in %dms", elapsed));
+        
+        return result;
+    }
+    
+    /**
+     * Apply sepia tone effect.
+     * 
+     * Algorithm: Standard sepia transformation matrix in Q12 fixed point
+     * (within 1 level of double math); SIMD when the Vector API is enabled
+     * Complexity: O(width * height), parallel rows
+     * 
+     * @param image Source image
+     * @return Sepia-toned image
+     * @throws ValidationException if image is null
+     */
+    public static Raster sepiaTone(Raster image) throws ValidationException {
+        Validator.requireNonNull(image, "image");
+        
+        MetricsRegistry.Sample sample = MetricsRegistry.start("sepia");
+        EngineOperationEvent event = new EngineOperationEvent();
+        event.begin();
+        long bandMark = ParallelBands.getScheduledBands();
+        Logger.debug("Applying sepia tone");
+        
+        int width = image.getWidth();
+        int height = image.getHeight();
+        Raster result = RasterPool.acquire(width, height);
+        int[] matrix = ColorKernels.sepiaMatrix();
+        applyRows(image, result, (src, srcOffset, dst, dstOffset, length) ->
+            ColorKernels.matrixRow(src, srcOffset, dst, dstOffset, length, matrix));
+        
+        commitEvent(event, bandMark, "sepia", image, () -> "");
+        long elapsed = sample.stop((long) width * height);
+        Logger.info(() -> String.format("Sepia tone applied in %dms", elapsed));
+        
+        return result;
+    }
+    
+    /**
+     * Invert all colors in the image.
+     * 
+     * Algorithm: Complement operation (1.0 - value)
+     * Complexity: O(width * height)
+     * 
+     * @param image Source image
+     * @return Inverted image
+     * @throws ValidationException if image is null
+     */
+    public static Raster invert(Raster image) throws ValidationException {
+        Validator.requireNonNull(image, "image");
+        
+        MetricsRegistry.Sample sample = MetricsRegistry.start("invert");
+        EngineOperationEvent event = new EngineOperationEvent();
+        event.begin();
+        long bandMark = ParallelBands.getScheduledBands();
+        Logger.debug("Inverting colors");
+        
+        int width = image.getWidth();
+        int height = image.getHeight();
+        Raster result = RasterPool.acquire(width, height);
+        int[] src = image.getPixels();
+        int[] dst = result.getPixels();
+        
+        for (int y = 0; y < height; y++) {
+            int srcRow = image.indexOf(0, y);
+            int dstRow = result.indexOf(0, y);
+            for (int x = 0; x < width; x++) {
+                // Complement of each color channel, alpha preserved
+                dst[dstRow + x] = src[srcRow + x] ^ 0x00FFFFFF;
+            }
+        }
+        
+        commitEvent(event, bandMark, "invert", image, () -> "");
+        long elapsed = sample.stop((long) width * height);
+        Logger.info(() -> String.format("Color inversion completed in %dms", elapsed));
+        
+        return result;
+    }
+    
+    /**
+     * Rotate image by 90 degrees.
+     * 
+     * Complexity: O(width * height)
+     * 
+     * @param image Source image
+     * @param clockwise true for clockwise, false for counter-clockwise
+     * @return Rotated image
+     * @throws ValidationException if image is null
+     */
+    public static Raster rotate90(Raster image, boolean clockwise) 
+            throws ValidationException {
+        
+        Validator.requireNonNull(image, "image");
+        
+        MetricsRegistry.Sample sample = MetricsRegistry.start("rotate90");
+        EngineOperationEvent event = new EngineOperationEvent();
+        event.begin();
+        long bandMark = ParallelBands.getScheduledBands();
+        Logger.debug(() -> String.format("Rotating 90° %s", clockwise ? "CW" : "CCW"));
+        
+        int width = image.getWidth();
+        int height = image.getHeight();
+        Raster result = RasterPool.acquire(height, width);
+        int[] src = image.getPixels();
+        int[] dst = result.getPixels();
+        
+        for (int y = 0; y < height; y++) {
+            int srcRow = image.indexOf(0, y);
+            for (int x = 0; x < width; x++) {
+                int argb = src[srcRow + x];
+                if (clockwise) {
+                    dst[result.indexOf(height - 1 - y, x)] = argb;
+                } else {
+                    dst[result.indexOf(y, width - 1 - x)] = argb;
+                }
+            }
+        }
+        
+        commitEvent(event, bandMark, "rotate90", image, () -> "clockwise=" + clockwise);
+        long elapsed = sample.stop((long) width * height);
+        Logger.info(() -> String.format("Rotation completed in %dms", elapsed));
+        
+        return result;
+    }
+    
+    /**
+     * Flip image horizontally or vertically.
+     * 
+     * Complexity: O(width * height)
+     * 
+     * @param image Source image
+     * @param horizontal true for horizontal flip, false for vertical
+     * @return Flipped image
+     * @throws ValidationException if image is null
+     */
+    public static Raster flip(Raster image, boolean horizontal) 
+            throws ValidationException {
+        
+        Validator.requireNonNull(image, "image");
+        
+        MetricsRegistry.Sample sample = MetricsRegistry.start("flip");
+        EngineOperationEvent event = new EngineOperationEvent();
+        event.begin();
+        long bandMark = ParallelBands.getScheduledBands();
+        Logger.debug(() -> String.format("Flipping %s", horizontal ? "horizontal" : "vertical"));
+        
+        int width = image.getWidth();
+        int height = image.getHeight();
+        Raster result = RasterPool.acquire(width, height);
+        int[] src = image.getPixels();
+        int[] dst = result.getPixels();
+        
+        for (int y = 0; y < height; y++) {
+            int srcRow = image.indexOf(0, y);
+            if (horizontal) {
+                int dstRow = result.indexOf(0, y);
+                for (int x = 0; x < width; x++) {
+                    dst[dstRow + width - 1 - x] = src[srcRow + x];
+                }
+            } else {
+                System.arraycopy(src, srcRow, dst, result.indexOf(0, height - 1 - y), width);
+            }
+        }
+        
+        commitEvent(event, bandMark, "flip", image, () -> "horizontal=" + horizontal);
+        long elapsed = sample.stop((long) width * height);
+        Logger.info(() -> String.format("Flip completed in %dms", elapsed));
+        
+        return result;
+    }
+    
+    /**
+     * Crop image to a rectangle without copying pixels.
+     * 
+     * The result is a {@link Raster#view} sharing the source's pixel array,
+     * so cropping a state that is never modified (such as an editor state,
+     * whose edits always write new rasters) costs O(1) and the cropped
+     * state shares its parent's buffer. The source must not be modified or
+     * released while the view is in use; call {@link Raster#compact} for a
+     * raster that owns its pixels.
+     * 
+     * Complexity: O(1)
+     * 
+     * @param image Source image
+     * @param x Left edge of the crop rectangle
+     * @param y Top edge of the crop rectangle
+     * @param width Crop width
+     * @param height Crop height
+     * @return View of the cropped region
+     * @throws ValidationException if the rectangle is empty or exceeds the image
+     */
+    public static Raster crop(Raster image, int x, int y, int width, int height)
+            throws ValidationException {
+        
+        Validator.requireNonNull(image, "image");
+        if (x < 0 || y < 0 || width <= 0 || height <= 0
+                || x + width > image.getWidth() || y + height > image.getHeight()) {
+            throw new ValidationException("Crop rectangle does not fit the image", "crop",
+                width + "x" + height + "@(" + x + "," + y + ")");
+        }
+        
+        MetricsRegistry.Sample sample = MetricsRegistry.start("crop");
+        EngineOperationEvent event = new EngineOperationEvent();
+        event.begin();
+        long bandMark = ParallelBands.getScheduledBands();
+        Logger.debug(() -> String.format("Cropping to %dx%d at (%d,%d)", width, height, x, y));
+        
+        Raster result = image.view(x, y, width, height);
+        
+        commitEvent(event, bandMark, "crop", width, height, 0, () -> String.format("x=%d y=%d from=%dx%d",
+            x, y, image.getWidth(), image.getHeight()));
+        long elapsed = sample.stop((long) width * height);
+        Logger.info(() -> String.format("Crop completed in %dms", elapsed));
+        
+        return result;
+    }
+    
+    /**
+     * Resize image with a reconstruction filter, in gamma-encoded values.
+     * 
+     * @see #resize(Raster, int, int, ResampleFilter, boolean)
+     */
+    public static Raster resize(Raster image, int width, int height, ResampleFilter filter)
+            throws ValidationException {
+        return resize(image, width, height, filter, false);
+    }
+    
+    /**
+     * Resize image with a reconstruction filter.
+     * 
+     * Algorithm: Separable two-pass resampling with per-axis weight tables,
+     * filtered premultiplied by alpha; downscales of 4x or more per axis
+     * are first halved with 2x2 box averages (except for AREA)
+     * Complexity: O(width * height * taps) for the output plus one pass over
+     * the source, parallel rows
+     * 
+     * @param image Source image
+     * @param width Output width in pixels
+     * @param height Output height in pixels
+     * @param filter Reconstruction filter
+     * @param linearLight true to filter in linear light rather than on sRGB values
+     * @return New resized image
+     * @throws ValidationException if parameters are invalid
+     */
+    public static Raster resize(Raster image, int width, int height, ResampleFilter filter,
+                                boolean linearLight) throws ValidationException {
+        
+        Validator.requireNonNull(image, "image");
+        Validator.requireNonNull(filter, "filter");
+        Validator.validateImageDimensions(width, height);
+        
+        if (width == image.getWidth() && height == image.getHeight()) {
+            return RasterPool.acquireCopy(image);
+        }
+        
+        MetricsRegistry.Sample sample = MetricsRegistry.start("resize");
+        EngineOperationEvent event = new EngineOperationEvent();
+        event.begin();
+        long bandMark = ParallelBands.getScheduledBands();
+        Logger.debug(() -> String.format("Resizing %dx%d to %dx%d: filter=%s linear=%b",
+            image.getWidth(), image.getHeight(), width, height, filter.name(), linearLight));
+        
+        Raster result = Resampler.resize(image, width, height, filter, linearLight);
+        
+        commitEvent(event, bandMark, "resize", result, () -> String.format("from=%dx%d filter=%s linear=%b",
+            image.getWidth(), image.getHeight(), filter.name(), linearLight));
+        long elapsed = sample.stop((long) width * height);
+        Logger.info(() -> String.format("Resize completed in %dms", elapsed));
+        
+        return result;
+    }
+    
+    /**
+     * Rotate image by an arbitrary angle about its center.
+     * 
+     * @param image Source image
+     * @param degrees Rotation [-180 to 180], positive is clockwise
+     * @param filter Sampling: NEAREST, BILINEAR or BICUBIC
+     * @param expand true to grow the canvas to the rotated bounding box,
+     *               false to keep the original frame (corners are cut off)
+     * @return New rotated image; uncovered corners are transparent
+     * @throws ValidationException if parameters are invalid
+     * @see #warp(Raster, ProjectiveTransform, int, int, ResampleFilter)
+     */
+    public static Raster rotate(Raster image, double degrees, ResampleFilter filter, boolean expand)
+            throws ValidationException {
+        
+        Validator.requireNonNull(image, "image");
+        Validator.validateAdjustment(degrees, Constants.ROTATION_MIN, Constants.ROTATION_MAX, "angle");
+        
+        if (degrees == 0) {
+            return RasterPool.acquireCopy(image);
+        }
+        
+        ProjectiveTransform rotation = ProjectiveTransform.rotation(degrees,
+            image.getWidth() / 2.0, image.getHeight() / 2.0);
+        return expand
+            ? warp(image, rotation, filter)
+            : warp(image, rotation, image.getWidth(), image.getHeight(), filter);
+    }
+    
+    /**
+     * Warp image by an affine or perspective transform onto a canvas sized
+     * to the transformed image bounds.
+     * 
+     * The bounding box of the four transformed corners is computed and the
+     * result is translated so its top-left corner is at the origin.
+     * 
+     * @param image Source image
+     * @param transform Source to output coordinates
+     * @param filter Sampling: NEAREST, BILINEAR or BICUBIC
+     * @return New warped image
+     * @throws ValidationException if the transform is singular, sends a
+     *         corner through infinity, or the bounds exceed the size limits
+     */
+    public static Raster warp(Raster image, ProjectiveTransform transform, ResampleFilter filter)
+            throws ValidationException {
+        
+        Validator.requireNonNull(image, "image");
+        Validator.requireNonNull(transform, "transform");
+        
+        double[] cornersX = {0, image.getWidth(), 0, image.getWidth()};
+        double[] cornersY = {0, 0, image.getHeight(), image.getHeight()};
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < 4; i++) {
+            if (!(transform.weight(cornersX[i], cornersY[i]) > 0)) {
+                throw new ValidationException("Transform maps the image through infinity",
+                    "transform", transform);
+            }
+            double x = transform.mapX(cornersX[i], cornersY[i]);
+            double y = transform.mapY(cornersX[i], cornersY[i]);
+            minX = Math.min(minX, x);
+            minY = Math.min(minY, y);
+            maxX = Math.max(maxX, x);
+            maxY = Math.max(maxY, y);
+        }
+        
+        // The bounds start exactly at the origin (a subpixel shift at most); sizes that are
+        // integral up to rounding noise, e.g. after a 90 degree rotation, are not grown
+        int width = (int) Math.min(Integer.MAX_VALUE, Math.ceil(maxX - minX - 1e-6));
+        int height = (int) Math.min(Integer.MAX_VALUE, Math.ceil(maxY - minY - 1e-6));
+        Validator.validateImageDimensions(width, height);
+        return warp(image, transform.then(ProjectiveTransform.translation(-minX, -minY)), width, height, filter);
+    }
+    
+    /**
+     * Warp image by an affine or perspective transform onto a canvas of the
+     * given size.
+     * 
+     * Algorithm: Inverse mapping; each output row of a tile fills a remap
+     * table of source coordinates by incremental stepping (no per-pixel
+     * matrix product or trigonometry), then samples it. Pixels that map
+     * outside the source are transparent.
+     * Complexity: O(width * height * taps), parallel 64x64 tiles
+     * 
+     * @param image Source image
+     * @param transform Source to output coordinates
+     * @param width Output width in pixels
+     * @param height Output height in pixels
+     * @param filter Sampling: NEAREST, BILINEAR or BICUBIC
+     * @return New warped image
+     * @throws ValidationException if parameters are invalid or the transform is singular
+     */
+    public static Raster warp(Raster image, ProjectiveTransform transform, int width, int height,
+                              ResampleFilter filter) throws ValidationException {
+        
+        Validator.requireNonNull(image, "image");
+        Validator.requireNonNull(transform, "transform");
+        Validator.requireNonNull(filter, "filter");
+        Validator.validateImageDimensions(width, height);
+        if (filter != ResampleFilter.NEAREST && filter != ResampleFilter.BILINEAR
+                && filter != ResampleFilter.BICUBIC) {
+            throw new ValidationException("Warp supports nearest, bilinear and bicubic sampling",
+                "filter", filter.name());
+        }
+        if (!transform.isInvertible()) {
+            throw new ValidationException("Transform is not invertible", "transform", transform);
+        }
+        
+        MetricsRegistry.Sample sample = MetricsRegistry.start("warp");
+        EngineOperationEvent event = new EngineOperationEvent();
+        event.begin();
+        long bandMark = ParallelBands.getScheduledBands();
+        Logger.debug(() -> String.format("Warping %dx%d to %dx%d: filter=%s affine=%b",
+            image.getWidth(), image.getHeight(), width, height, filter.name(), transform.isAffine()));
+        
+        Raster result = RasterPool.acquire(width, height);
+        Warper.warp(image, result, transform.inverse(), filter);
+        
+        commitEvent(event, bandMark, "warp", result, () -> String.format("from=%dx%d filter=%s %s",
+            image.getWidth(), image.getHeight(), filter.name(), transform));
+        long elapsed = sample.stop((long) width * height);
+        Logger.info(() -> String.format("Warp completed in %dms", elapsed));
+        
+        return result;
+    }
+    
+    // ==================== Private Helper Methods ====================
+    
+    /**
+     * End and commit a Flight Recorder event if recording is enabled.
+     * Parameters are only formatted when the event is actually committed.
+     * 
+     * @param bandMark {@link ParallelBands#getScheduledBands} when the
+     *        operation began; the difference is reported as its tile count
+     */
+    private static void commitEvent(EngineOperationEvent event, long bandMark, String operation,
+                                    Raster image, Supplier<String> parameters) {
+        commitEvent(event, bandMark, operation, image.getWidth(), image.getHeight(), image.getSizeBytes(),
+            parameters);
+    }
+    
+    private static void commitEvent(EngineOperationEvent event, long bandMark, String operation,
+                                    int width, int height, long bytes, Supplier<String> parameters) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.width = width;
+            event.height = height;
+            event.bytes = bytes;
+            event.parameters = parameters.get();
+            // Operations without parallel bands ran as one unit on the calling thread
+            event.tiles = (int) Math.max(1, ParallelBands.getScheduledBands() - bandMark);
+            event.commit();
+        }
+    }
+    
+    /**
+     * Copy a high-precision raster into {@code result} (a new raster when
+     * null, nothing when it is {@code image}) and run a kernel in place over
+     * its color planes in parallel row bands; alpha is copied unchanged
+     */
+    private static FloatRaster applyPointFloat(FloatRaster image, FloatRaster target, String operation,
+                                               Supplier<String> parameters, FloatPlaneKernel kernel)
+            throws ValidationException {
+        
+        if (target != null
+                && (target.getWidth() != image.getWidth() || target.getHeight() != image.getHeight())) {
+            throw new ValidationException("Result raster size does not match the image", "result", target);
+        }
+        
+        MetricsRegistry.Sample sample = MetricsRegistry.start(operation);
+        EngineOperationEvent event = new EngineOperationEvent();
+        event.begin();
+        long bandMark = ParallelBands.getScheduledBands();
+        Logger.debug(() -> "Applying " + operation + ": " + parameters.get());
+        
+        int width = image.getWidth();
+        int height = image.getHeight();
+        FloatRaster result = target != null ? target : new FloatRaster(width, height);
+        if (result != image) {
+            image.copyInto(result);
+        }
+        float[] r = result.getRed();
+        float[] g = result.getGreen();
+        float[] b = result.getBlue();
+        
+        ParallelBands.forEach(height, (y0, y1) -> kernel.apply(r, g, b, y0 * width, y1 * width));
+        
+        commitEvent(event, bandMark, operation, width, height, image.getSizeBytes(), parameters);
+        long elapsed = sample.stop((long) width * height);
+        Logger.info(() -> String.format("%s applied in %dms", operation, elapsed));
+        
+        return result;
+    }
+    
+    private static float clampUnit(float value) {
+        // Comparisons instead of Math.min/max, which pay for NaN and -0.0 handling
+        return value < 0f ? 0f : (value > 1f ? 1f : value);
+    }
+    
+    /**
+     * Run a row kernel over every row of {@code image} into {@code result}
+     * in parallel bands
+     */
+    private static void applyRows(Raster image, Raster result, RowKernel kernel) {
+        int width = image.getWidth();
+        int[] src = image.getPixels();
+        int[] dst = result.getPixels();
+        ParallelBands.forEach(image.getHeight(), (y0, y1) -> {
+            for (int y = y0; y < y1; y++) {
+                kernel.apply(src, image.indexOf(0, y), dst, result.indexOf(0, y), width);
+            }
+        });
+    }
+    
+    private static Raster applyChannelLut(Raster image, ChannelLut lut, String operation)
+            throws ValidationException {
+        
+        Validator.requireNonNull(image, "image");
+        Validator.requireNonNull(lut, "lut");
+        
+        MetricsRegistry.Sample sample = MetricsRegistry.start(operation);
+        EngineOperationEvent event = new EngineOperationEvent();
+        event.begin();
+        long bandMark = ParallelBands.getScheduledBands();
+        Logger.debug(() -> "Applying channel LUT: " + operation);
+        
+        int width = image.getWidth();
+        int height = image.getHeight();
+        Raster result = RasterPool.acquire(width, height);
+        int[] src = image.getPixels();
+        int[] dst = result.getPixels();
+        
+        ParallelBands.forEach(height, (y0, y1) -> {
+            for (int y = y0; y < y1; y++) {
+                lut.applyRow(src, image.indexOf(0, y), dst, result.indexOf(0, y), width);
+            }
+        });
+        
+        commitEvent(event, bandMark, operation, image, () -> "");
+        long elapsed = sample.stop((long) width * height);
+        Logger.info(() -> String.format("%s applied in %dms", operation, elapsed));
+        
+        return result;
+    }
+    
+    /**
+     * Create 1D Gaussian kernel for blur operations.
+     * 
+     * @param radius Kernel radius
+     * @return Normalized Gaussian kernel
+     */
+    private static double[] createGaussianKernel(int radius) {
+        int size = radius * 2 + 1;
+        double[] kernel = new double[size];
+        double sigma = radius / 3.0;
+        double sum = 0.0;
+        
+        for (int i = 0; i < size; i++) {
+            int x = i - radius;
+            kernel[i] = Math.exp(-(x * x) / (2 * sigma * sigma));
+            sum += kernel[i];
+        }
+        
+        // Normalize kernel
+        for (int i = 0; i < size; i++) {
+            kernel[i] /= sum;
+        }
+        
+        return kernel;
+    }
+    
+    // ==================== Nested Types ====================
+    
+    /**
+     * Packed ARGB kernel over {@code length} pixels of one row
+     */
+    @FunctionalInterface
+    private interface RowKernel {
+        void apply(int[] src, int srcOffset, int[] dst, int dstOffset, int length);
+    }
+    
+    /**
+     * Point operation over the pixel range [from, to) of red, green and blue
+     * planes, updated in place
+     */
+    @FunctionalInterface
+    private interface FloatPlaneKernel {
+        void apply(float[] red, float[] green, float[] blue, int from, int to);
+    }
+}
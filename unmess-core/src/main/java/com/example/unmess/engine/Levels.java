@@ -0,0 +1,124 @@
+package com.example.unmess.engine;
+
+import com.example.unmess.core.Constants;
+import com.example.unmess.core.ValidationException;
+import com.example.unmess.core.Validator;
+
+/**
+ * Levels adjustment: input black and white points, midtone gamma and
+ * output black and white points, applied equally to all channels.
+ *
+ * {@code out = outBlack + (outWhite - outBlack) * t^(1 / gamma)} with
+ * {@code t = clamp((in - inBlack) / (inWhite - inBlack))}, so gamma above
+ * 1 brightens midtones. Output points may be swapped to invert the range.
+ *
+ * Compiles to a {@link ChannelLut} with {@link #toLut()}.
+ *
+ * @author Photo Editor Engineering Team
+ * @version 1.0.0
+ */
+public final class Levels {
+
+    public static final Levels IDENTITY = new Levels(new Builder());
+
+    private final int inputBlack;
+    private final int inputWhite;
+    private final double gamma;
+    private final int outputBlack;
+    private final int outputWhite;
+
+    private Levels(Builder builder) {
+        this.inputBlack = builder.inputBlack;
+        this.inputWhite = builder.inputWhite;
+        this.gamma = builder.gamma;
+        this.outputBlack = builder.outputBlack;
+        this.outputWhite = builder.outputWhite;
+    }
+
+    // Getters
+    public int getInputBlack() { return inputBlack; }
+    public int getInputWhite() { return inputWhite; }
+    public double getGamma() { return gamma; }
+    public int getOutputBlack() { return outputBlack; }
+    public int getOutputWhite() { return outputWhite; }
+
+    public boolean isIdentity() {
+        return inputBlack == 0 && inputWhite == 255 && gamma == 1.0
+            && outputBlack == 0 && outputWhite == 255;
+    }
+
+    /**
+     * Map one 8-bit value
+     */
+    public int map(int value) {
+        double t = (value - inputBlack) / (double) (inputWhite - inputBlack);
+        t = Math.pow(Math.max(0.0, Math.min(1.0, t)), 1.0 / gamma);
+        return (int) Math.round(outputBlack + (outputWhite - outputBlack) * t);
+    }
+
+    /**
+     * Compile to per-channel tables (the same table for every channel)
+     */
+    public ChannelLut toLut() {
+        if (isIdentity()) {
+            return ChannelLut.IDENTITY;
+        }
+        int[] table = new int[256];
+        for (int i = 0; i < 256; i++) {
+            table[i] = map(i);
+        }
+        return ChannelLut.of(table, table, table);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Levels[in=%d..%d, gamma=%.2f, out=%d..%d]",
+            inputBlack, inputWhite, gamma, outputBlack, outputWhite);
+    }
+
+    // Builder Pattern
+    public static class Builder {
+        private int inputBlack = 0;
+        private int inputWhite = 255;
+        private double gamma = 1.0;
+        private int outputBlack = 0;
+        private int outputWhite = 255;
+
+        public Builder input(int black, int white) {
+            this.inputBlack = black;
+            this.inputWhite = white;
+            return this;
+        }
+
+        /**
+         * @param gamma Midtone gamma [0.1 to 9.99], 1.0 leaves midtones unchanged
+         */
+        public Builder gamma(double gamma) {
+            this.gamma = gamma;
+            return this;
+        }
+
+        public Builder output(int black, int white) {
+            this.outputBlack = black;
+            this.outputWhite = white;
+            return this;
+        }
+
+        /**
+         * @throws ValidationException if a point is out of range or the
+         *         input black point is not below the input white point
+         */
+        public Levels build() throws ValidationException {
+            Validator.requireInRange(inputBlack, 0, 255, "inputBlack");
+            Validator.requireInRange(inputWhite, 0, 255, "inputWhite");
+            Validator.requireInRange(outputBlack, 0, 255, "outputBlack");
+            Validator.requireInRange(outputWhite, 0, 255, "outputWhite");
+            Validator.validateAdjustment(gamma, Constants.LEVELS_GAMMA_MIN, Constants.LEVELS_GAMMA_MAX, "gamma");
+            if (inputBlack >= inputWhite) {
+                throw new ValidationException("Input black point must be below the white point",
+                    "inputBlack", inputBlack);
+            }
+            return new Levels(this);
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.unmess.engine;
+
+import com.example.unmess.core.ValidationException;
+import com.example.unmess.core.Validator;
+import com.example.unmess.model.Operation;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Executes recorded operations against an image.
+ * Used by the editor to apply operations with their dirty region, and by
+ * session recovery to rebuild edits from the edit journal.
+ *
+ * Operations are replayed from their type and parameters only, so every
+ * replayable operation must carry all parameters it was executed with.
+ *
+ * @author Photo Editor Engineering Team
+ * @version 1.0.0
+ */
+public final class OperationReplayer {
+
+    private OperationReplayer() {
+        throw new AssertionError("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Replay a single operation.
+     *
+     * @param image Source image (not modified)
+     * @param operation Recorded operation
+     * @return Result of re-executing the operation
+     * @throws ValidationException if the operation cannot be replayed
+     */
+    public static Raster replay(Raster image, Operation operation)
+            throws ValidationException {
+        return apply(image, operation).getImage();
+    }
+
+    /**
+     * Execute an operation and report which pixels it changed.
+     *
+     * @param image Source image (not modified)
+     * @param operation Operation with all of its parameters
+     * @return New image and its dirty region relative to {@code image}
+     * @throws ValidationException if the operation cannot be executed
+     */
+    public static EditResult apply(Raster image, Operation operation)
+            throws ValidationException {
+        return apply(image, operation, null);
+    }
+
+    /**
+     * Execute an operation, reusing a histogram the caller already holds.
+     *
+     * @param image Source image (not modified)
+     * @param operation Operation with all of its parameters
+     * @param histogram Histogram of {@code image}, or null to compute it
+     *        when {@link #usesHistogram} is true for the operation
+     * @return New image and its dirty region relative to {@code image}
+     * @throws ValidationException if the operation cannot be executed
+     */
+    public static EditResult apply(Raster image, Operation operation, Histogram histogram)
+            throws ValidationException {
+        return EditResult.full(execute(image, operation, histogram));
+    }
+
+    /**
+     * Apply a 3D LUT that is already loaded, e.g. from a journaled lattice
+     *
+     * @param image Source image (not modified)
+     * @param lut Color lookup table
+     * @return New image, entirely dirty
+     * @throws ValidationException if the image or LUT is missing
+     */
+    public static EditResult applyLut(Raster image, ColorLut3D lut) throws ValidationException {
+        return EditResult.full(ImageProcessorV2.applyLut3D(image, lut));
+    }
+
+    /**
+     * Check whether an operation type is derived from the image histogram
+     */
+    public static boolean usesHistogram(Operation.Type type) {
+        switch (type) {
+            case AUTO_TONE:
+            case AUTO_CONTRAST:
+            case AUTO_COLOR:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Overwrite a rectangular block of pixels (a local edit).
+     *
+     * Only the block is marked dirty, so downstream consumers such as the
+     * display do work proportional to the block size.
+     *
+     * @param image Source image (not modified)
+     * @param pixels Replacement pixels, row-major with stride {@code width}
+     * @return New image and the block as its dirty region
+     * @throws ValidationException if the block does not fit the image
+     */
+    public static EditResult applyPatch(Raster image, int x, int y, int width, int height, int[] pixels)
+            throws ValidationException {
+
+        Validator.requireNonNull(image, "image");
+        Validator.requireNonNull(pixels, "pixels");
+        if (x < 0 || y < 0 || width <= 0 || height <= 0
+                || x + width > image.getWidth() || y + height > image.getHeight()
+                || pixels.length < width * height) {
+            throw new ValidationException("Patch does not fit the image", "patch",
+                width + "x" + height + "@(" + x + "," + y + ")");
+        }
+
+        Raster result = RasterPool.acquireCopy(image);
+        result.setPixels(x, y, width, height, pixels, 0, width);
+        return new EditResult(result, DirtyRegion.of(x, y, width, height));
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * Load the .cube file a LUT_3D operation was recorded with
+     */
+    private static ColorLut3D readLut(Operation operation) throws ValidationException {
+        Object path = operation.getParameter("path");
+        Validator.requireNonNull(path, "path");
+        try {
+            return ColorLut3D.readCube(Path.of(path.toString()));
+        } catch (IOException e) {
+            throw new ValidationException("3D LUT cannot be read: " + e.getMessage(), "path", path);
+        }
+    }
+
+    /**
+     * The resample filter a RESIZE or ROTATE operation was recorded with, by enum name
+     */
+    private static ResampleFilter readFilter(Operation operation) throws ValidationException {
+        Object filter = operation.getParameter("filter");
+        Validator.requireNonNull(filter, "filter");
+        try {
+            return ResampleFilter.valueOf(filter.toString());
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Unknown resample filter", "filter", filter);
+        }
+    }
+
+    private static Raster execute(Raster image, Operation operation, Histogram histogram)
+            throws ValidationException {
+
+        Validator.requireNonNull(image, "image");
+        Validator.requireNonNull(operation, "operation");
+        if (histogram == null && usesHistogram(operation.getType())) {
+            histogram = Histogram.of(image);
+        }
+
+        switch (operation.getType()) {
+            case BRIGHTNESS:
+                return ImageProcessorV2.adjustBrightness(image,
+                    operation.getDoubleParameter("factor", 0.0));
+            case CONTRAST:
+                return ImageProcessorV2.adjustContrast(image,
+                    operation.getDoubleParameter("factor", 0.0));
+            case SATURATION:
+                return ImageProcessorV2.adjustSaturation(image,
+                    operation.getDoubleParameter("factor", 0.0));
+            case BLUR:
+                return ImageProcessorV2.gaussianBlur(image,
+                    (int) operation.getDoubleParameter("radius", 0.0),
+                    Boolean.TRUE.equals(operation.getParameter("linear")));
+            case SHARPEN:
+                return ImageProcessorV2.sharpen(image,
+                    operation.getDoubleParameter("intensity", 0.0));
+            case GRAYSCALE:
+                return ImageProcessorV2.toGrayscale(image);
+            case SEPIA:
+                return ImageProcessorV2.sepiaTone(image);
+            case INVERT:
+                return ImageProcessorV2.invert(image);
+            case NOISE_REDUCTION:
+                return ImageProcessorV2.reduceNoise(image,
+                    operation.getDoubleParameter("luma", 0.0),
+                    operation.getDoubleParameter("chroma", 0.0));
+            case MEDIAN:
+                return ImageProcessorV2.median(image,
+                    (int) operation.getDoubleParameter("radius", 1.0));
+            case AUTO_TONE:
+                return ImageProcessorV2.autoTone(image, histogram);
+            case AUTO_CONTRAST:
+                return ImageProcessorV2.autoContrast(image, histogram);
+            case AUTO_COLOR:
+                return ImageProcessorV2.autoColor(image, histogram);
+            case LUT_3D:
+                return ImageProcessorV2.applyLut3D(image, readLut(operation));
+            case ROTATE_CW:
+                return ImageProcessorV2.rotate90(image, true);
+            case ROTATE_CCW:
+                return ImageProcessorV2.rotate90(image, false);
+            case FLIP_H:
+                return ImageProcessorV2.flip(image, true);
+            case FLIP_V:
+                return ImageProcessorV2.flip(image, false);
+            case ROTATE:
+                return ImageProcessorV2.rotate(image,
+                    operation.getDoubleParameter("degrees", 0.0),
+                    readFilter(operation),
+                    Boolean.TRUE.equals(operation.getParameter("expand")));
+            case CROP:
+                return ImageProcessorV2.crop(image,
+                    (int) operation.getDoubleParameter("x", 0.0),
+                    (int) operation.getDoubleParameter("y", 0.0),
+                    (int) operation.getDoubleParameter("width", 0.0),
+                    (int) operation.getDoubleParameter("height", 0.0));
+            case RESIZE:
+                return ImageProcessorV2.resize(image,
+                    (int) operation.getDoubleParameter("width", 0.0),
+                    (int) operation.getDoubleParameter("height", 0.0),
+                    readFilter(operation),
+                    Boolean.TRUE.equals(operation.getParameter("linear")));
+            default:
+                throw new ValidationException("Operation cannot be replayed",
+                    "operation", operation.getType());
+        }
+    }
+}
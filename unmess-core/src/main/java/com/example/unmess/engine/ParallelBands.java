@@ -0,0 +1,172 @@
+package com.example.unmess.engine;
+
+import com.example.unmess.core.Constants;
+import com.example.unmess.core.MetricsRegistry;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Splits a range (usually image rows) into bands processed on the shared
+ * engine worker pool.
+ *
+ * Scheduling:
+ * - About four bands per worker so uneven bands balance out
+ * - Bands are claimed from a shared counter; the calling thread claims
+ *   bands too, so a call completes even when every worker is busy
+ * - Calls made from a worker run inline instead of nesting
+ *
+ * The first exception thrown by a band is rethrown to the caller after
+ * all claimed bands have finished.
+ *
+ * Each thread counts the bands its calls were split into (1 for a call
+ * run inline), so an operation can report its work units as the change in
+ * {@link #getScheduledBands} across its run.
+ *
+ * @author Photo Editor Engineering Team
+ * @version 1.0.0
+ */
+public final class ParallelBands {
+
+    /**
+     * Work on the half-open range [start, end)
+     */
+    @FunctionalInterface
+    public interface Band {
+        void process(int start, int end);
+    }
+
+    public static final int DEFAULT_MIN_BAND = 16;
+
+    private static final int BANDS_PER_WORKER = 4;
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+    private static final ThreadLocal<long[]> SCHEDULED = ThreadLocal.withInitial(() -> new long[1]);
+    private static final ExecutorService WORKERS =
+        Executors.newFixedThreadPool(Constants.THREAD_POOL_SIZE, WorkerThread::new);
+
+    private ParallelBands() {
+        throw new AssertionError("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Process [0, length) in bands of at least {@value #DEFAULT_MIN_BAND}
+     */
+    public static void forEach(int length, Band band) {
+        forEach(length, DEFAULT_MIN_BAND, band);
+    }
+
+    /**
+     * Process [0, length) in parallel bands
+     *
+     * @param length Range to cover, e.g. image height
+     * @param minBand Smallest band worth handing to another thread
+     * @param band Work for one band; must be safe to run concurrently
+     */
+    public static void forEach(int length, int minBand, Band band) {
+        if (length <= 0) {
+            return;
+        }
+        int bands = Math.min(Constants.THREAD_POOL_SIZE * BANDS_PER_WORKER,
+            (length + minBand - 1) / Math.max(1, minBand));
+        if (bands <= 1 || Thread.currentThread() instanceof WorkerThread) {
+            SCHEDULED.get()[0]++;
+            band.process(0, length);
+            return;
+        }
+        SCHEDULED.get()[0] += bands;
+
+        Job job = new Job(length, bands, band);
+        int helpers = Math.min(Constants.THREAD_POOL_SIZE, bands - 1);
+        for (int i = 0; i < helpers; i++) {
+            WORKERS.execute(job::run);
+        }
+        job.run();
+        job.await();
+    }
+
+    /**
+     * Total bands scheduled by calls made from the current thread so far
+     */
+    public static long getScheduledBands() {
+        return SCHEDULED.get()[0];
+    }
+
+    /**
+     * Number of worker threads in the shared pool
+     */
+    public static int getParallelism() {
+        return Constants.THREAD_POOL_SIZE;
+    }
+
+    // ==================== Nested Types ====================
+
+    private static final class Job {
+        private final int length;
+        private final int bands;
+        private final Band band;
+        private final AtomicInteger nextBand = new AtomicInteger();
+        private final CountDownLatch remaining;
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Job(int length, int bands, Band band) {
+            this.length = length;
+            this.bands = bands;
+            this.band = band;
+            this.remaining = new CountDownLatch(bands);
+        }
+
+        void run() {
+            int index;
+            while ((index = nextBand.getAndIncrement()) < bands) {
+                try {
+                    if (failure.get() == null) {
+                        int start = (int) ((long) length * index / bands);
+                        int end = (int) ((long) length * (index + 1) / bands);
+                        band.process(start, end);
+                    }
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                } finally {
+                    remaining.countDown();
+                }
+            }
+        }
+
+        void await() {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    remaining.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+
+            Throwable t = failure.get();
+            if (t instanceof RuntimeException) {
+                throw (RuntimeException) t;
+            }
+            if (t instanceof Error) {
+                throw (Error) t;
+            }
+            if (t != null) {
+                throw new IllegalStateException("Parallel band failed", t);
+            }
+        }
+    }
+
+    private static final class WorkerThread extends Thread {
+        WorkerThread(Runnable runnable) {
+            super(runnable, "unmess-engine-" + THREAD_COUNTER.incrementAndGet());
+            setDaemon(true);
+            MetricsRegistry.registerWorkerThread(this);
+        }
+    }
+}
@@ -89,8 +89,9 @@ public final class PixelOperations {
     
     /**
      * Convert normalized double [0.0-1.0] to byte [0-255]
+     * Rounds to nearest, matching 8-bit color quantization
      */
     public static int denormalize(double normalizedValue) {
-        return (int) (clamp(normalizedValue) * 255.0);
+        return (int) Math.round(clamp(normalizedValue) * 255.0);
     }
 }
@@ -0,0 +1,166 @@
+package com.example.unmess.engine;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Immutable 2D projective transform (3x3 homogeneous matrix).
+ *
+ * Maps image coordinates to image coordinates, where pixel (x, y) covers
+ * the unit square from (x, y) to (x + 1, y + 1). Affine transforms
+ * (rotation, scale, shear, translation) have a last row of (0, 0, 1);
+ * anything else is a perspective transform.
+ *
+ * Transforms compose with {@link #then}, so a rotation about a point is
+ * {@code translation(-cx, -cy).then(rotation).then(translation(cx, cy))}.
+ *
+ * @author Photo Editor Engineering Team
+ * @version 1.0.0
+ */
+public final class ProjectiveTransform {
+
+    public static final ProjectiveTransform IDENTITY = affine(1, 0, 0, 0, 1, 0);
+
+    private static final double SINGULAR_EPSILON = 1e-12;
+
+    private final double[] m;
+
+    private ProjectiveTransform(double[] m) {
+        this.m = m;
+    }
+
+    /**
+     * Affine transform x' = m00 x + m01 y + m02, y' = m10 x + m11 y + m12
+     */
+    public static ProjectiveTransform affine(double m00, double m01, double m02,
+                                             double m10, double m11, double m12) {
+        return new ProjectiveTransform(new double[] {m00, m01, m02, m10, m11, m12, 0, 0, 1});
+    }
+
+    /**
+     * Transform from a row-major 3x3 matrix (copied)
+     *
+     * @throws IllegalArgumentException if the matrix does not have 9 finite entries
+     */
+    public static ProjectiveTransform of(double[] matrix) {
+        Objects.requireNonNull(matrix, "Matrix cannot be null");
+        if (matrix.length != 9) {
+            throw new IllegalArgumentException("Projective matrix needs 9 entries, got " + matrix.length);
+        }
+        for (double value : matrix) {
+            if (!Double.isFinite(value)) {
+                throw new IllegalArgumentException("Projective matrix entries must be finite");
+            }
+        }
+        return new ProjectiveTransform(matrix.clone());
+    }
+
+    public static ProjectiveTransform translation(double tx, double ty) {
+        return affine(1, 0, tx, 0, 1, ty);
+    }
+
+    public static ProjectiveTransform scale(double sx, double sy) {
+        return affine(sx, 0, 0, 0, sy, 0);
+    }
+
+    /**
+     * Rotation about a point; positive angles turn clockwise on screen (y down)
+     */
+    public static ProjectiveTransform rotation(double degrees, double centerX, double centerY) {
+        double radians = Math.toRadians(degrees);
+        double cos = Math.cos(radians);
+        double sin = Math.sin(radians);
+        return affine(cos, -sin, centerX - cos * centerX + sin * centerY,
+                      sin, cos, centerY - sin * centerX - cos * centerY);
+    }
+
+    /**
+     * Transform that applies this one and then {@code next}
+     */
+    public ProjectiveTransform then(ProjectiveTransform next) {
+        double[] a = next.m;
+        double[] r = new double[9];
+        for (int row = 0; row < 3; row++) {
+            for (int col = 0; col < 3; col++) {
+                r[row * 3 + col] = a[row * 3] * m[col] + a[row * 3 + 1] * m[3 + col] + a[row * 3 + 2] * m[6 + col];
+            }
+        }
+        return new ProjectiveTransform(r);
+    }
+
+    /**
+     * Inverse transform
+     *
+     * @throws IllegalStateException if the matrix is singular
+     */
+    public ProjectiveTransform inverse() {
+        double c00 = m[4] * m[8] - m[5] * m[7];
+        double c01 = m[5] * m[6] - m[3] * m[8];
+        double c02 = m[3] * m[7] - m[4] * m[6];
+        double det = m[0] * c00 + m[1] * c01 + m[2] * c02;
+        if (!(Math.abs(det) > SINGULAR_EPSILON)) {
+            throw new IllegalStateException("Transform is not invertible");
+        }
+        double s = 1.0 / det;
+        return new ProjectiveTransform(new double[] {
+            c00 * s, (m[2] * m[7] - m[1] * m[8]) * s, (m[1] * m[5] - m[2] * m[4]) * s,
+            c01 * s, (m[0] * m[8] - m[2] * m[6]) * s, (m[2] * m[3] - m[0] * m[5]) * s,
+            c02 * s, (m[1] * m[6] - m[0] * m[7]) * s, (m[0] * m[4] - m[1] * m[3]) * s
+        });
+    }
+
+    /**
+     * Whether the last row is (0, 0, 1), i.e. no perspective division
+     */
+    public boolean isAffine() {
+        return m[6] == 0.0 && m[7] == 0.0 && m[8] == 1.0;
+    }
+
+    /**
+     * Whether the transform is invertible
+     */
+    public boolean isInvertible() {
+        double det = m[0] * (m[4] * m[8] - m[5] * m[7])
+            - m[1] * (m[3] * m[8] - m[5] * m[6])
+            + m[2] * (m[3] * m[7] - m[4] * m[6]);
+        return Math.abs(det) > SINGULAR_EPSILON;
+    }
+
+    /**
+     * Matrix entry at (row, col)
+     */
+    public double get(int row, int col) {
+        return m[row * 3 + col];
+    }
+
+    /**
+     * Homogeneous weight of a point; points with weight &lt;= 0 lie on or
+     * behind the horizon and have no finite image
+     */
+    public double weight(double x, double y) {
+        return m[6] * x + m[7] * y + m[8];
+    }
+
+    public double mapX(double x, double y) {
+        return (m[0] * x + m[1] * y + m[2]) / weight(x, y);
+    }
+
+    public double mapY(double x, double y) {
+        return (m[3] * x + m[4] * y + m[5]) / weight(x, y);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof ProjectiveTransform && Arrays.equals(m, ((ProjectiveTransform) o).m);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(m);
+    }
+
+    @Override
+    public String toString() {
+        return "ProjectiveTransform" + Arrays.toString(m);
+    }
+}
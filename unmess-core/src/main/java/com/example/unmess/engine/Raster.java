@@ -0,0 +1,216 @@
+package com.example.unmess.engine;
+
+import java.util.Objects;
+
+/**
+ * Toolkit-independent image raster of packed 8-bit ARGB pixels.
+ *
+ * Pixels are stored row-major in an int array. Pixel (x, y) lives at
+ * {@code offset + y * stride + x}, so a raster may describe a window into
+ * a larger backing array. {@link #view} creates such a window in O(1);
+ * it shares the parent's pixels, so it is only safe while the parent is
+ * neither modified nor released, and {@link #compact} turns it back into
+ * a raster that owns exactly its own pixels.
+ *
+ * Pixel format: non-premultiplied ARGB, identical to
+ * {@code PixelFormat.getIntArgbInstance()} and {@code BufferedImage.TYPE_INT_ARGB}.
+ *
+ * Engine operations treat their input rasters as read-only and always
+ * return a new raster.
+ *
+ * @author Photo Editor Engineering Team
+ * @version 1.0.0
+ */
+public final class Raster {
+
+    private final int width;
+    private final int height;
+    private final int[] pixels;
+    private final int offset;
+    private final int stride;
+    private final RasterPool.Lease lease;
+
+    /**
+     * Create a new transparent raster
+     *
+     * @throws IllegalArgumentException if dimensions are not positive
+     */
+    public Raster(int width, int height) {
+        this(new int[checkedArea(width, height)], width, height, 0, width);
+    }
+
+    private Raster(int[] pixels, int width, int height, int offset, int stride) {
+        this.pixels = pixels;
+        this.width = width;
+        this.height = height;
+        this.offset = offset;
+        this.stride = stride;
+        this.lease = null;
+    }
+    
+    /**
+     * Pooled raster over a (possibly oversized) recycled array
+     */
+    Raster(int[] pixels, int width, int height, RasterPool.Lease lease) {
+        this.pixels = pixels;
+        this.width = width;
+        this.height = height;
+        this.offset = 0;
+        this.stride = width;
+        this.lease = lease;
+    }
+
+    /**
+     * Wrap an existing row-major ARGB array without copying
+     *
+     * @param pixels Pixel array of at least {@code width * height} entries
+     * @throws IllegalArgumentException if the array is too small
+     */
+    public static Raster wrap(int[] pixels, int width, int height) {
+        Objects.requireNonNull(pixels, "Pixel array cannot be null");
+        if (pixels.length < checkedArea(width, height)) {
+            throw new IllegalArgumentException("Pixel array is smaller than " + width + "x" + height);
+        }
+        return new Raster(pixels, width, height, 0, width);
+    }
+
+    /**
+     * Window of this raster sharing its pixels (no copy). The view is
+     * never pooled; releasing it is a no-op.
+     *
+     * @throws IndexOutOfBoundsException if the block exceeds this raster
+     */
+    public Raster view(int x, int y, int w, int h) {
+        if (x < 0 || y < 0 || w <= 0 || h <= 0 || x + w > width || y + h > height) {
+            throw new IndexOutOfBoundsException(String.format(
+                "View %dx%d at (%d,%d) exceeds raster %dx%d", w, h, x, y, width, height));
+        }
+        return new Raster(pixels, w, h, indexOf(x, y), stride);
+    }
+
+    /**
+     * This raster if it spans its whole backing array, otherwise a dense copy
+     *
+     * Performance: O(1) when already dense, else O(width * height)
+     */
+    public Raster compact() {
+        return isDense() ? this : copy();
+    }
+
+    // Getters
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public int[] getPixels() { return pixels; }
+    public int getOffset() { return offset; }
+    public int getStride() { return stride; }
+
+    /**
+     * Whether this raster is leased from {@link RasterPool}
+     */
+    public boolean isPooled() {
+        return lease != null;
+    }
+    
+    /**
+     * Whether the pixels fill the backing array row after row, with no gaps
+     */
+    public boolean isDense() {
+        return offset == 0 && stride == width && pixels.length == width * height;
+    }
+    
+    RasterPool.Lease getLease() {
+        return lease;
+    }
+    
+    /**
+     * Index of pixel (x, y) in the backing array
+     */
+    public int indexOf(int x, int y) {
+        return offset + y * stride + x;
+    }
+
+    public int getArgb(int x, int y) {
+        return pixels[indexOf(x, y)];
+    }
+
+    public void setArgb(int x, int y, int argb) {
+        pixels[indexOf(x, y)] = argb;
+    }
+
+    /**
+     * Copy a rectangular block of pixels into this raster
+     *
+     * @param x Left edge of the destination block
+     * @param y Top edge of the destination block
+     * @param w Block width
+     * @param h Block height
+     * @param source Source pixels, row-major
+     * @param sourceOffset Index of the first source pixel
+     * @param sourceStride Distance between source rows
+     */
+    public void setPixels(int x, int y, int w, int h, int[] source, int sourceOffset, int sourceStride) {
+        if (x < 0 || y < 0 || w < 0 || h < 0 || x + w > width || y + h > height) {
+            throw new IndexOutOfBoundsException(String.format(
+                "Block %dx%d at (%d,%d) exceeds raster %dx%d", w, h, x, y, width, height));
+        }
+        for (int row = 0; row < h; row++) {
+            System.arraycopy(source, sourceOffset + row * sourceStride,
+                pixels, indexOf(x, y + row), w);
+        }
+    }
+
+    /**
+     * Copy a rectangular block of pixels out of this raster
+     */
+    public void getPixels(int x, int y, int w, int h, int[] target, int targetOffset, int targetStride) {
+        if (x < 0 || y < 0 || w < 0 || h < 0 || x + w > width || y + h > height) {
+            throw new IndexOutOfBoundsException(String.format(
+                "Block %dx%d at (%d,%d) exceeds raster %dx%d", w, h, x, y, width, height));
+        }
+        for (int row = 0; row < h; row++) {
+            System.arraycopy(pixels, indexOf(x, y + row),
+                target, targetOffset + row * targetStride, w);
+        }
+    }
+
+    /**
+     * Create a dense deep copy of this raster
+     *
+     * Performance: O(width * height), one arraycopy per row
+     */
+    public Raster copy() {
+        Raster copy = new Raster(width, height);
+        getPixels(0, 0, width, height, copy.pixels, 0, width);
+        return copy;
+    }
+
+    /**
+     * Approximate memory footprint of the pixel data
+     */
+    public long getSizeBytes() {
+        return (long) width * height * 4;
+    }
+
+    /**
+     * Memory held by the backing array, which views share with their parent
+     */
+    public long getBackingSizeBytes() {
+        return (long) pixels.length * 4;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Raster[%dx%d]", width, height);
+    }
+
+    private static int checkedArea(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Invalid raster dimensions: " + width + "x" + height);
+        }
+        long area = (long) width * height;
+        if (area > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Raster too large: " + width + "x" + height);
+        }
+        return (int) area;
+    }
+}
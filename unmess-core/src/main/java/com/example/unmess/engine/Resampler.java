@@ -0,0 +1,396 @@
+package com.example.unmess.engine;
+
+import java.util.Arrays;
+
+/**
+ * Separable image resampler.
+ *
+ * Resizing runs as two one-dimensional passes, horizontal then vertical.
+ * For each axis the filter weights of every output position are computed
+ * once into a table (first source index, tap count, normalized weights),
+ * so the passes themselves are plain multiply-adds. The kernel is
+ * stretched by the scale factor when downscaling, which makes it an
+ * anti-aliasing filter as well as an interpolator; windows are clipped at
+ * the image edges and renormalized.
+ *
+ * Channels are filtered premultiplied by alpha so transparent pixels do
+ * not bleed their color. The intermediate image keeps 16 bits per channel
+ * (packed into a long per pixel), so the only 8-bit rounding is the
+ * final one. In linear-light mode channels are decoded with
+ * {@link SrgbTransfer} before filtering and encoded afterwards.
+ *
+ * Large reductions first halve the image with 2x2 box averages while
+ * the remaining ratio on an axis is at least {@value #HALVING_RATIO}, so
+ * the final filter never needs more than about {@code 4 * support} taps
+ * per axis. {@link ResampleFilter#AREA} skips halving since its exact
+ * coverage weights already read every source pixel once per axis.
+ *
+ * Passes run in parallel over rows with {@link ParallelBands}.
+ *
+ * @author Photo Editor Engineering Team
+ * @version 1.0.0
+ */
+final class Resampler {
+
+    /** Halve an axis while its scale factor is at least this */
+    static final int HALVING_RATIO = 4;
+
+    private static final float[] UNIT = new float[256];
+    private static final float[] LINEAR = new float[256];
+    private static final float SCALE_16 = 65535f;
+
+    static {
+        for (int c = 0; c < 256; c++) {
+            UNIT[c] = (float) SrgbTransfer.decodeUnit(c);
+            LINEAR[c] = (float) SrgbTransfer.decode(c);
+        }
+    }
+
+    private Resampler() {
+        throw new AssertionError("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Resample {@code src} to a new pooled raster of the given size
+     */
+    static Raster resize(Raster src, int width, int height, ResampleFilter filter, boolean linearLight) {
+        if (filter == ResampleFilter.NEAREST) {
+            return nearest(src, width, height);
+        }
+
+        Raster image = src;
+        if (filter != ResampleFilter.AREA) {
+            while (image.getWidth() >= width * HALVING_RATIO || image.getHeight() >= height * HALVING_RATIO) {
+                Raster half = halve(image, image.getWidth() >= width * HALVING_RATIO,
+                    image.getHeight() >= height * HALVING_RATIO, linearLight);
+                if (image != src) {
+                    RasterPool.release(image);
+                }
+                image = half;
+            }
+        }
+
+        Weights columns = Weights.compute(image.getWidth(), width, filter);
+        Weights rows = Weights.compute(image.getHeight(), height, filter);
+        long[] horizontal = horizontalPass(image, columns, linearLight);
+        if (image != src) {
+            RasterPool.release(image);
+        }
+        return verticalPass(horizontal, width, rows, height, linearLight);
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private static Raster nearest(Raster src, int width, int height) {
+        Raster result = RasterPool.acquire(width, height);
+        int[] in = src.getPixels();
+        int[] out = result.getPixels();
+        int[] sourceX = new int[width];
+        for (int x = 0; x < width; x++) {
+            sourceX[x] = nearestIndex(x, src.getWidth(), width);
+        }
+
+        ParallelBands.forEach(height, (y0, y1) -> {
+            for (int y = y0; y < y1; y++) {
+                int srcRow = src.indexOf(0, nearestIndex(y, src.getHeight(), height));
+                int dstRow = result.indexOf(0, y);
+                for (int x = 0; x < width; x++) {
+                    out[dstRow + x] = in[srcRow + sourceX[x]];
+                }
+            }
+        });
+        return result;
+    }
+
+    private static int nearestIndex(int i, int in, int out) {
+        return Math.min(in - 1, (int) ((i + 0.5) * in / out));
+    }
+
+    /**
+     * 2x2 (or 2x1) box average along the selected axes. Odd edges repeat
+     * their last row or column.
+     */
+    private static Raster halve(Raster src, boolean halveX, boolean halveY, boolean linearLight) {
+        int srcWidth = src.getWidth();
+        int srcHeight = src.getHeight();
+        int width = halveX ? (srcWidth + 1) / 2 : srcWidth;
+        int height = halveY ? (srcHeight + 1) / 2 : srcHeight;
+        Raster result = RasterPool.acquire(width, height);
+        int[] in = src.getPixels();
+        int[] out = result.getPixels();
+
+        ParallelBands.forEach(height, (y0, y1) -> {
+            for (int y = y0; y < y1; y++) {
+                int sy = halveY ? y * 2 : y;
+                int row0 = src.indexOf(0, sy);
+                int row1 = src.indexOf(0, halveY ? Math.min(sy + 1, srcHeight - 1) : sy);
+                int dstRow = result.indexOf(0, y);
+                for (int x = 0; x < width; x++) {
+                    int sx0 = halveX ? x * 2 : x;
+                    int sx1 = halveX ? Math.min(sx0 + 1, srcWidth - 1) : sx0;
+                    int p00 = in[row0 + sx0];
+                    int p01 = in[row0 + sx1];
+                    int p10 = in[row1 + sx0];
+                    int p11 = in[row1 + sx1];
+                    out[dstRow + x] = linearLight
+                        ? averageLinear(p00, p01, p10, p11)
+                        : average(p00, p01, p10, p11);
+                }
+            }
+        });
+        return result;
+    }
+
+    private static int average(int p00, int p01, int p10, int p11) {
+        int alpha = (p00 >>> 24) + (p01 >>> 24) + (p10 >>> 24) + (p11 >>> 24);
+        if (alpha == 4 * 255) {
+            return 0xFF000000
+                | ((((p00 >> 16) & 0xFF) + ((p01 >> 16) & 0xFF) + ((p10 >> 16) & 0xFF) + ((p11 >> 16) & 0xFF) + 2) >> 2) << 16
+                | ((((p00 >> 8) & 0xFF) + ((p01 >> 8) & 0xFF) + ((p10 >> 8) & 0xFF) + ((p11 >> 8) & 0xFF) + 2) >> 2) << 8
+                | (((p00 & 0xFF) + (p01 & 0xFF) + (p10 & 0xFF) + (p11 & 0xFF) + 2) >> 2);
+        }
+        if (alpha == 0) {
+            return 0;
+        }
+        int half = alpha / 2;
+        return ((alpha + 2) >> 2) << 24
+            | ((weighted(p00, p01, p10, p11, 16) + half) / alpha) << 16
+            | ((weighted(p00, p01, p10, p11, 8) + half) / alpha) << 8
+            | ((weighted(p00, p01, p10, p11, 0) + half) / alpha);
+    }
+
+    private static int weighted(int p00, int p01, int p10, int p11, int shift) {
+        return ((p00 >> shift) & 0xFF) * (p00 >>> 24) + ((p01 >> shift) & 0xFF) * (p01 >>> 24)
+            + ((p10 >> shift) & 0xFF) * (p10 >>> 24) + ((p11 >> shift) & 0xFF) * (p11 >>> 24);
+    }
+
+    private static int averageLinear(int p00, int p01, int p10, int p11) {
+        int alpha = (p00 >>> 24) + (p01 >>> 24) + (p10 >>> 24) + (p11 >>> 24);
+        if (alpha == 0) {
+            return 0;
+        }
+        float scale = 1f / alpha;
+        return ((alpha + 2) >> 2) << 24
+            | SrgbTransfer.encode(weightedLinear(p00, p01, p10, p11, 16) * scale) << 16
+            | SrgbTransfer.encode(weightedLinear(p00, p01, p10, p11, 8) * scale) << 8
+            | SrgbTransfer.encode(weightedLinear(p00, p01, p10, p11, 0) * scale);
+    }
+
+    private static float weightedLinear(int p00, int p01, int p10, int p11, int shift) {
+        return LINEAR[(p00 >> shift) & 0xFF] * (p00 >>> 24) + LINEAR[(p01 >> shift) & 0xFF] * (p01 >>> 24)
+            + LINEAR[(p10 >> shift) & 0xFF] * (p10 >>> 24) + LINEAR[(p11 >> shift) & 0xFF] * (p11 >>> 24);
+    }
+
+    /**
+     * Filter every source row to the output width. Each row is decoded
+     * once into premultiplied floats; results are stored as four 16-bit
+     * channels per pixel (alpha in the top bits).
+     */
+    private static long[] horizontalPass(Raster src, Weights columns, boolean linearLight) {
+        int srcWidth = src.getWidth();
+        int srcHeight = src.getHeight();
+        int width = columns.outputs;
+        long[] out = new long[width * srcHeight];
+        int[] in = src.getPixels();
+        float[] decode = linearLight ? LINEAR : UNIT;
+
+        ParallelBands.forEach(srcHeight, (y0, y1) -> {
+            float[] row = new float[srcWidth * 4];
+            for (int y = y0; y < y1; y++) {
+                int srcRow = src.indexOf(0, y);
+                for (int x = 0; x < srcWidth; x++) {
+                    int argb = in[srcRow + x];
+                    float a = UNIT[argb >>> 24];
+                    row[x * 4] = decode[(argb >> 16) & 0xFF] * a;
+                    row[x * 4 + 1] = decode[(argb >> 8) & 0xFF] * a;
+                    row[x * 4 + 2] = decode[argb & 0xFF] * a;
+                    row[x * 4 + 3] = a;
+                }
+
+                int dstRow = y * width;
+                for (int x = 0; x < width; x++) {
+                    int s = columns.start[x] * 4;
+                    int w = x * columns.taps;
+                    int count = columns.count[x];
+                    float r = 0f;
+                    float g = 0f;
+                    float b = 0f;
+                    float a = 0f;
+                    for (int t = 0; t < count; t++, s += 4) {
+                        float weight = columns.weights[w + t];
+                        r += row[s] * weight;
+                        g += row[s + 1] * weight;
+                        b += row[s + 2] * weight;
+                        a += row[s + 3] * weight;
+                    }
+                    out[dstRow + x] = (long) to16(a) << 48 | (long) to16(r) << 32
+                        | (long) to16(g) << 16 | to16(b);
+                }
+            }
+        });
+        return out;
+    }
+
+    /**
+     * Filter columns of the intermediate image to the output height,
+     * accumulating whole rows so reads stay sequential
+     */
+    private static Raster verticalPass(long[] in, int width, Weights rows, int height, boolean linearLight) {
+        Raster result = RasterPool.acquire(width, height);
+        int[] out = result.getPixels();
+
+        ParallelBands.forEach(height, (y0, y1) -> {
+            float[] sum = new float[width * 4];
+            for (int y = y0; y < y1; y++) {
+                Arrays.fill(sum, 0f);
+                int w = y * rows.taps;
+                for (int t = 0; t < rows.count[y]; t++) {
+                    float weight = rows.weights[w + t];
+                    int srcRow = (rows.start[y] + t) * width;
+                    for (int x = 0; x < width; x++) {
+                        long pixel = in[srcRow + x];
+                        int s = x * 4;
+                        sum[s] += (int) (pixel >>> 32 & 0xFFFF) * weight;
+                        sum[s + 1] += (int) (pixel >>> 16 & 0xFFFF) * weight;
+                        sum[s + 2] += (int) (pixel & 0xFFFF) * weight;
+                        sum[s + 3] += (int) (pixel >>> 48) * weight;
+                    }
+                }
+
+                int dstRow = result.indexOf(0, y);
+                for (int x = 0; x < width; x++) {
+                    out[dstRow + x] = encode(sum, x * 4, linearLight);
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Un-premultiply one accumulated pixel (16-bit scale) and pack it
+     */
+    private static int encode(float[] sum, int s, boolean linearLight) {
+        float a = sum[s + 3];
+        if (!(a >= 0.5f)) {
+            return 0;
+        }
+        int alpha = a >= SCALE_16 ? 255 : (int) (a * (255f / SCALE_16) + 0.5f);
+        float scale = 1f / a;
+        if (linearLight) {
+            return alpha << 24
+                | SrgbTransfer.encode(sum[s] * scale) << 16
+                | SrgbTransfer.encode(sum[s + 1] * scale) << 8
+                | SrgbTransfer.encode(sum[s + 2] * scale);
+        }
+        return alpha << 24
+            | toByte(sum[s] * scale) << 16
+            | toByte(sum[s + 1] * scale) << 8
+            | toByte(sum[s + 2] * scale);
+    }
+
+    private static int to16(float value) {
+        if (!(value > 0f)) {
+            return 0;
+        }
+        return value >= 1f ? 0xFFFF : (int) (value * SCALE_16 + 0.5f);
+    }
+
+    private static int toByte(float value) {
+        if (!(value > 0f)) {
+            return 0;
+        }
+        return value >= 1f ? 255 : (int) (value * 255f + 0.5f);
+    }
+
+    // ==================== Nested Types ====================
+
+    /**
+     * Filter weights for one axis: output i reads {@code count[i]} source
+     * samples from {@code start[i]}, weighted by
+     * {@code weights[i * taps + t]} (normalized to sum to 1)
+     */
+    static final class Weights {
+        final int outputs;
+        final int taps;
+        final int[] start;
+        final int[] count;
+        final float[] weights;
+
+        private Weights(int outputs, int taps) {
+            this.outputs = outputs;
+            this.taps = taps;
+            this.start = new int[outputs];
+            this.count = new int[outputs];
+            this.weights = new float[outputs * taps];
+        }
+
+        static Weights compute(int in, int out, ResampleFilter filter) {
+            double scale = (double) in / out;
+            if (filter == ResampleFilter.AREA) {
+                return area(in, out, scale);
+            }
+            double stretch = Math.max(1.0, scale);
+            double support = filter.getSupport() * stretch;
+            Weights table = new Weights(out, (int) Math.ceil(support * 2) + 1);
+            double[] values = new double[table.taps];
+
+            for (int i = 0; i < out; i++) {
+                double center = (i + 0.5) * scale;
+                int first = Math.max(0, (int) Math.floor(center - support));
+                int last = Math.min(in - 1, (int) Math.ceil(center + support));
+                int count = 0;
+                double total = 0.0;
+                for (int j = first; j <= last && count < table.taps; j++) {
+                    double value = filter.kernel((j + 0.5 - center) / stretch);
+                    if (count == 0 && value == 0.0) {
+                        first++;
+                        continue;
+                    }
+                    values[count++] = value;
+                    total += value;
+                }
+                while (count > 0 && values[count - 1] == 0.0) {
+                    count--;
+                }
+                if (count == 0 || total == 0.0) {
+                    // Degenerate window: fall back to the nearest sample
+                    first = Math.min(in - 1, (int) center);
+                    values[0] = 1.0;
+                    count = 1;
+                    total = 1.0;
+                }
+                table.fill(i, first, count, values, total);
+            }
+            return table;
+        }
+
+        /**
+         * Exact coverage: output i spans [i * scale, (i + 1) * scale) in
+         * source pixels, each source pixel weighted by its overlap
+         */
+        private static Weights area(int in, int out, double scale) {
+            Weights table = new Weights(out, (int) Math.ceil(scale) + 1);
+            double[] values = new double[table.taps];
+
+            for (int i = 0; i < out; i++) {
+                double left = i * scale;
+                double right = Math.min(in, (i + 1) * scale);
+                int first = (int) left;
+                int count = 0;
+                for (int j = first; j < right && count < table.taps; j++) {
+                    values[count++] = Math.min(right, j + 1) - Math.max(left, j);
+                }
+                table.fill(i, first, count, values, right - left);
+            }
+            return table;
+        }
+
+        private void fill(int i, int first, int n, double[] values, double total) {
+            start[i] = first;
+            count[i] = n;
+            for (int t = 0; t < n; t++) {
+                weights[i * taps + t] = (float) (values[t] / total);
+            }
+        }
+    }
+}
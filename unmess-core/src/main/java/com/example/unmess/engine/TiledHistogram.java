@@ -0,0 +1,139 @@
+package com.example.unmess.engine;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Histogram of a changing image, maintained incrementally from dirty regions.
+ *
+ * The image is divided into {@value #TILE_SIZE}-pixel tiles, each keeping
+ * its own counts next to the running totals. {@link #update} recounts only
+ * the tiles a {@link DirtyRegion} touches: their old counts are subtracted
+ * from the totals and the new ones added back. A local edit therefore
+ * costs time proportional to the edited area, and a full-frame change
+ * costs one parallel counting pass with no merge of whole-image partials.
+ *
+ * Dirty regions must be relative to the image passed to the previous
+ * update. A size change, or the first update, recounts every tile.
+ *
+ * Thread Safety: not thread-safe; callers serialize updates and snapshots.
+ * Tiles are recounted in parallel internally.
+ *
+ * @author Photo Editor Engineering Team
+ * @version 1.0.0
+ */
+public final class TiledHistogram {
+
+    public static final int TILE_SIZE = 256;
+
+    private static final int CHANNEL_BINS = Histogram.Channel.values().length * Histogram.BINS;
+
+    private int width;
+    private int height;
+    private int tilesX;
+    private int[][] tileCounts;
+    private int[] dirtyTiles;
+    private boolean[] marked;
+    private final long[] totals = new long[CHANNEL_BINS];
+
+    /**
+     * Bring the histogram up to date with {@code image}
+     *
+     * @param image Current image
+     * @param dirty Pixels that changed since the previous update
+     */
+    public void update(Raster image, DirtyRegion dirty) {
+        Objects.requireNonNull(image, "Image cannot be null");
+        Objects.requireNonNull(dirty, "Dirty region cannot be null");
+
+        if (tileCounts == null || image.getWidth() != width || image.getHeight() != height) {
+            reset(image.getWidth(), image.getHeight());
+            dirty = DirtyRegion.full(width, height);
+        }
+
+        int count = collectDirtyTiles(dirty.clip(width, height));
+        if (count == 0) {
+            return;
+        }
+
+        int[] pixels = image.getPixels();
+        int[] tiles = dirtyTiles;
+        ParallelBands.forEach(count, 1, (i0, i1) -> {
+            long[] delta = new long[CHANNEL_BINS];
+            for (int i = i0; i < i1; i++) {
+                int tile = tiles[i];
+                int[] counts = tileCounts[tile];
+                for (int k = 0; k < CHANNEL_BINS; k++) {
+                    delta[k] -= counts[k];
+                }
+                Arrays.fill(counts, 0);
+                int x = (tile % tilesX) * TILE_SIZE;
+                int y = (tile / tilesX) * TILE_SIZE;
+                int tileWidth = Math.min(TILE_SIZE, width - x);
+                for (int row = y; row < Math.min(height, y + TILE_SIZE); row++) {
+                    Histogram.accumulate(pixels, image.indexOf(x, row), tileWidth, counts);
+                }
+                for (int k = 0; k < CHANNEL_BINS; k++) {
+                    delta[k] += counts[k];
+                }
+            }
+            synchronized (totals) {
+                for (int k = 0; k < CHANNEL_BINS; k++) {
+                    totals[k] += delta[k];
+                }
+            }
+        });
+    }
+
+    /**
+     * Forget all cached tiles; the next update recounts the whole image
+     */
+    public void invalidate() {
+        tileCounts = null;
+    }
+
+    /**
+     * Immutable copy of the current totals, or null before the first update
+     */
+    public Histogram snapshot() {
+        if (tileCounts == null) {
+            return null;
+        }
+        return Histogram.fromCounts(totals.clone(), (long) width * height);
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private void reset(int newWidth, int newHeight) {
+        width = newWidth;
+        height = newHeight;
+        tilesX = (width + TILE_SIZE - 1) / TILE_SIZE;
+        int tileCount = tilesX * ((height + TILE_SIZE - 1) / TILE_SIZE);
+        tileCounts = new int[tileCount][CHANNEL_BINS];
+        dirtyTiles = new int[tileCount];
+        marked = new boolean[tileCount];
+        Arrays.fill(totals, 0);
+    }
+
+    /**
+     * Fill dirtyTiles with the distinct tiles touched by the region
+     */
+    private int collectDirtyTiles(DirtyRegion dirty) {
+        int count = 0;
+        for (DirtyRegion.Rect rect : dirty.getRectangles()) {
+            for (int ty = rect.getY() / TILE_SIZE; ty <= (rect.getBottom() - 1) / TILE_SIZE; ty++) {
+                for (int tx = rect.getX() / TILE_SIZE; tx <= (rect.getRight() - 1) / TILE_SIZE; tx++) {
+                    int tile = ty * tilesX + tx;
+                    if (!marked[tile]) {
+                        marked[tile] = true;
+                        dirtyTiles[count++] = tile;
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            marked[dirtyTiles[i]] = false;
+        }
+        return count;
+    }
+}
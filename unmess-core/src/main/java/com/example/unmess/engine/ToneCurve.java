@@ -0,0 +1,272 @@
+package com.example.unmess.engine;
+
+import com.example.unmess.core.Constants;
+import com.example.unmess.core.ValidationException;
+import com.example.unmess.core.Validator;
+
+/**
+ * Monotone luminance tone curve compiled from the tone sliders.
+ *
+ * Exposure, contrast, brightness, highlights, shadows, whites and blacks
+ * are composed into one function of luminance and compiled into a
+ * {@value #LUT_SIZE}-entry table. Applying the curve costs one table lookup
+ * per pixel no matter how many sliders are active.
+ *
+ * Stages (each non-decreasing, so the composition is monotone):
+ * 1. Exposure: x * 2^ev
+ * 2. Brightness: x + b
+ * 3. Contrast: (x - 0.5) * (1 + c) + 0.5
+ * 4. Highlights / Shadows: x + h * x^2 (1 - x) and x + s * x (1 - x)^2;
+ *    both bumps have slope >= -1, so |h|, |s| <= 1 keeps the stage monotone
+ * 5. Whites / Blacks: positive values move the output end points, negative
+ *    values move the input clip points (a levels stage)
+ *
+ * LUT entries pack a Q12 luminance gain (bits 8-31) and an 8-bit black
+ * lift (bits 0-7): {@code out = c * gain / 4096 + lift} for every channel,
+ * which maps input luminance Y exactly to curve(Y) while preserving hue.
+ *
+ * Per-channel corrections (Levels, Curves) ride along as a
+ * {@link ChannelLut} applied to the result of the luminance stage in the
+ * same pixel pass, so adding them does not add a pass over the image.
+ *
+ * High-precision rasters use {@link #getSamples}, the curve sampled at the
+ * same {@value #LUT_SIZE} points and interpolated linearly, so the output
+ * stays continuous instead of stepping with the 8-bit gain table.
+ *
+ * @author Photo Editor Engineering Team
+ * @version 1.0.0
+ */
+public final class ToneCurve {
+
+    public static final int LUT_SIZE = 4096;
+    public static final int LUT_BITS = 12;
+
+    // BT.709 luma weights scaled so 255 * sum >> 16 == LUT_SIZE - 1
+    private static final int LUMA_SCALE = (int) Math.round((LUT_SIZE - 1) * 65536.0 / 255.0);
+    static final int LUMA_RED = (int) Math.round(0.2126 * LUMA_SCALE);
+    static final int LUMA_GREEN = (int) Math.round(0.7152 * LUMA_SCALE);
+    static final int LUMA_BLUE = LUMA_SCALE - LUMA_RED - LUMA_GREEN;
+
+    private static final double LEVELS_RANGE = 0.25;
+    // Keeps c * gain within int range for 8-bit channels
+    private static final double MAX_GAIN = 255.0;
+
+    public static final ToneCurve IDENTITY = new ToneCurve(new Builder());
+
+    private final double exposure;
+    private final double contrast;
+    private final double brightness;
+    private final double highlights;
+    private final double shadows;
+    private final double whites;
+    private final double blacks;
+    private final ChannelLut channels;
+    private volatile int[] lut;
+    private volatile float[] samples;
+
+    private ToneCurve(Builder builder) {
+        this.exposure = builder.exposure;
+        this.contrast = builder.contrast;
+        this.brightness = builder.brightness;
+        this.highlights = builder.highlights;
+        this.shadows = builder.shadows;
+        this.whites = builder.whites;
+        this.blacks = builder.blacks;
+        this.channels = builder.channels;
+    }
+
+    // Getters
+    public double getExposure() { return exposure; }
+    public double getContrast() { return contrast; }
+    public double getBrightness() { return brightness; }
+    public double getHighlights() { return highlights; }
+    public double getShadows() { return shadows; }
+    public double getWhites() { return whites; }
+    public double getBlacks() { return blacks; }
+    public ChannelLut getChannels() { return channels; }
+
+    /**
+     * Whether the curve leaves every pixel unchanged
+     */
+    public boolean isIdentity() {
+        return isLuminanceIdentity() && channels.isIdentity();
+    }
+
+    /**
+     * Whether the luminance stages (all sliders) leave every pixel unchanged
+     */
+    public boolean isLuminanceIdentity() {
+        return exposure == 0 && contrast == 0 && brightness == 0 && highlights == 0
+            && shadows == 0 && whites == 0 && blacks == 0;
+    }
+
+    /**
+     * Evaluate the curve for a normalized luminance
+     *
+     * @param x Input luminance [0.0 to 1.0]
+     * @return Output luminance [0.0 to 1.0]
+     */
+    public double evaluate(double x) {
+        double v = x * Math.pow(2.0, exposure);
+        v = PixelOperations.clamp(v + brightness);
+        v = PixelOperations.clamp((v - 0.5) * (1.0 + contrast) + 0.5);
+        v = PixelOperations.clamp(v + highlights * v * v * (1.0 - v));
+        v = PixelOperations.clamp(v + shadows * v * (1.0 - v) * (1.0 - v));
+
+        double inBlack = Math.max(0.0, -blacks) * LEVELS_RANGE;
+        double inWhite = 1.0 - Math.max(0.0, whites) * LEVELS_RANGE;
+        double outBlack = Math.max(0.0, blacks) * LEVELS_RANGE;
+        double outWhite = 1.0 + Math.min(0.0, whites) * LEVELS_RANGE;
+        v = PixelOperations.clamp((v - inBlack) / (inWhite - inBlack));
+        return outBlack + v * (outWhite - outBlack);
+    }
+
+    /**
+     * Compiled lookup table, built on first use
+     *
+     * @return Packed gain/lift entries indexed by 12-bit luminance (do not modify)
+     */
+    public int[] getLut() {
+        int[] table = lut;
+        if (table == null) {
+            table = compile();
+            lut = table;
+        }
+        return table;
+    }
+
+    /**
+     * Curve values at {@value #LUT_SIZE} evenly spaced luminances, built on
+     * first use
+     *
+     * @return Monotone samples of {@link #evaluate} over [0.0, 1.0] (do not modify)
+     */
+    public float[] getSamples() {
+        float[] table = samples;
+        if (table == null) {
+            table = new float[LUT_SIZE];
+            double previous = 0.0;
+            for (int i = 0; i < LUT_SIZE; i++) {
+                previous = Math.max(previous, evaluate(i / (double) (LUT_SIZE - 1)));
+                table[i] = (float) previous;
+            }
+            samples = table;
+        }
+        return table;
+    }
+
+    /**
+     * 12-bit BT.709 luminance of an 8-bit ARGB pixel, used as the LUT index
+     */
+    public static int lumaIndex(int argb) {
+        return (((argb >> 16) & 0xFF) * LUMA_RED
+            + ((argb >> 8) & 0xFF) * LUMA_GREEN
+            + (argb & 0xFF) * LUMA_BLUE) >>> 16;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ToneCurve[exposure=%.2f, contrast=%.2f, brightness=%.2f, highlights=%.2f, "
+                + "shadows=%.2f, whites=%.2f, blacks=%.2f, channels=%s]",
+            exposure, contrast, brightness, highlights, shadows, whites, blacks,
+            channels.isIdentity() ? "identity" : "custom");
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private int[] compile() {
+        int[] table = new int[LUT_SIZE];
+        double lift = evaluate(0.0) * 255.0;
+        double previous = 0.0;
+
+        for (int i = 0; i < LUT_SIZE; i++) {
+            double x = i / (double) (LUT_SIZE - 1);
+            // Guard against rounding so the table itself is monotone
+            double target = Math.max(previous, evaluate(x));
+            previous = target;
+
+            // Black lift fades out towards white; the gain supplies the rest
+            int bias = PixelOperations.clampInt((int) Math.round(lift * (1.0 - x)), 0, 255);
+            double gain = i == 0 ? 1.0 : (target * 255.0 - bias) / (x * 255.0);
+            int gainQ12 = (int) Math.round(Math.min(Math.max(0.0, gain), MAX_GAIN) * (1 << LUT_BITS));
+
+            table[i] = (gainQ12 << 8) | bias;
+        }
+        return table;
+    }
+
+    // Builder Pattern
+    public static class Builder {
+        private double exposure;
+        private double contrast;
+        private double brightness;
+        private double highlights;
+        private double shadows;
+        private double whites;
+        private double blacks;
+        private ChannelLut channels = ChannelLut.IDENTITY;
+
+        /**
+         * @param exposure Exposure in stops [-2.0 to 2.0]
+         */
+        public Builder exposure(double exposure) {
+            this.exposure = exposure;
+            return this;
+        }
+
+        public Builder contrast(double contrast) {
+            this.contrast = contrast;
+            return this;
+        }
+
+        public Builder brightness(double brightness) {
+            this.brightness = brightness;
+            return this;
+        }
+
+        public Builder highlights(double highlights) {
+            this.highlights = highlights;
+            return this;
+        }
+
+        public Builder shadows(double shadows) {
+            this.shadows = shadows;
+            return this;
+        }
+
+        public Builder whites(double whites) {
+            this.whites = whites;
+            return this;
+        }
+
+        public Builder blacks(double blacks) {
+            this.blacks = blacks;
+            return this;
+        }
+
+        /**
+         * Per-channel tables applied after the luminance stages, e.g.
+         * {@code levels.toLut().then(curves.toLut())}
+         */
+        public Builder channels(ChannelLut channels) {
+            this.channels = channels;
+            return this;
+        }
+
+        /**
+         * @throws ValidationException if any slider is out of range
+         */
+        public ToneCurve build() throws ValidationException {
+            Validator.validateAdjustment(exposure, Constants.EXPOSURE_MIN, Constants.EXPOSURE_MAX, "exposure");
+            Validator.validateAdjustment(contrast, Constants.CONTRAST_MIN, Constants.CONTRAST_MAX, "contrast");
+            Validator.validateAdjustment(brightness,
+                Constants.BRIGHTNESS_MIN, Constants.BRIGHTNESS_MAX, "brightness");
+            Validator.validateAdjustment(highlights, Constants.TONE_MIN, Constants.TONE_MAX, "highlights");
+            Validator.validateAdjustment(shadows, Constants.TONE_MIN, Constants.TONE_MAX, "shadows");
+            Validator.validateAdjustment(whites, Constants.TONE_MIN, Constants.TONE_MAX, "whites");
+            Validator.validateAdjustment(blacks, Constants.TONE_MIN, Constants.TONE_MAX, "blacks");
+            Validator.requireNonNull(channels, "channels");
+            return new ToneCurve(this);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.unmess.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event covering one ImageProcessorV2 operation.
+ *
+ * Usage: {@code begin()} before the pixel loop, then
+ * {@code if (event.shouldCommit()) { ...fill fields...; event.commit(); }}.
+ * When recording is off the event is never committed and the JIT removes
+ * the allocation, so the cost is a single flag check.
+ *
+ * @author Photo Editor Engineering Team
+ * @version 1.0.0
+ */
+@Name("com.example.unmess.EngineOperation")
+@Label("Engine Operation")
+@Category({"Unmess", "Engine"})
+@Description("Pixel processing performed by the image engine")
+@StackTrace(false)
+public class EngineOperationEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Width")
+    public int width;
+
+    @Label("Height")
+    public int height;
+
+    @Label("Pixel Data")
+    @DataAmount
+    public long bytes;
+
+    @Label("Parameters")
+    public String parameters;
+
+    @Label("Tiles")
+    @Description("Number of independently scheduled work units (parallel bands or tiles)")
+    public int tiles;
+}
@@ -0,0 +1,43 @@
+package com.example.unmess.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event covering a HistoryManager save, undo or redo.
+ *
+ * @author Photo Editor Engineering Team
+ * @version 1.0.0
+ */
+@Name("com.example.unmess.History")
+@Label("History")
+@Category({"Unmess", "Model"})
+@Description("Undo history transition")
+@StackTrace(false)
+public class HistoryEvent extends Event {
+
+    @Label("Action")
+    @Description("save, undo or redo")
+    public String action;
+
+    @Label("Width")
+    public int width;
+
+    @Label("Height")
+    public int height;
+
+    @Label("Undo Depth")
+    public int undoDepth;
+
+    @Label("Redo Depth")
+    public int redoDepth;
+
+    @Label("History Memory")
+    @DataAmount
+    public long memoryBytes;
+}
@@ -0,0 +1,34 @@
+package com.example.unmess.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event covering a deep copy of an image raster.
+ *
+ * Stack traces are kept so clones can be attributed to their caller
+ * (history snapshot, preview base, state transition).
+ *
+ * @author Photo Editor Engineering Team
+ * @version 1.0.0
+ */
+@Name("com.example.unmess.ImageClone")
+@Label("Image Clone")
+@Category({"Unmess", "Model"})
+@Description("Deep copy of an image raster")
+public class ImageCloneEvent extends Event {
+
+    @Label("Width")
+    public int width;
+
+    @Label("Height")
+    public int height;
+
+    @Label("Bytes Copied")
+    @DataAmount
+    public long bytes;
+}
@@ -0,0 +1,44 @@
+package com.example.unmess.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event covering hand-off of a processed frame to the display.
+ *
+ * Together with {@link EngineOperationEvent} this separates time spent
+ * processing from time spent converting and publishing pixels to the UI.
+ *
+ * @author Photo Editor Engineering Team
+ * @version 1.0.0
+ */
+@Name("com.example.unmess.PreviewPublish")
+@Label("Preview Publish")
+@Category({"Unmess", "Rendering"})
+@Description("Processed frame converted and published to the display")
+@StackTrace(false)
+public class PreviewPublishEvent extends Event {
+
+    @Label("Width")
+    public int width;
+
+    @Label("Height")
+    public int height;
+
+    @Label("Pixel Data")
+    @DataAmount
+    public long bytes;
+
+    @Label("Adjustments")
+    @Description("Adjustment parameters that produced the frame")
+    public String parameters;
+
+    @Label("Tiles")
+    @Description("Number of dirty tiles uploaded")
+    public int tiles;
+}
@@ -0,0 +1,684 @@
+package com.example.unmess.model;
+
+import com.example.unmess.core.Constants;
+import com.example.unmess.core.Logger;
+import com.example.unmess.core.ValidationException;
+import com.example.unmess.engine.ColorLut3D;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * Crash-safe, append-only journal of committed edits.
+ *
+ * The journal lives next to the source file ({@code <source>.unmess-journal})
+ * and records every committed {@link Operation}, undo and redo. Edits that
+ * cannot be replayed from their parameters (e.g. brush strokes) are stored as
+ * pixel patches covering only the changed region. A 3D LUT is stored with
+ * its lattice, so replay does not depend on the .cube file still existing.
+ * Recovery therefore costs time proportional to the number of edits, never
+ * a full image snapshot.
+ *
+ * File Format:
+ * - Header: magic, version, source path, source file size and modification
+ *   time, width, height
+ * - Records: [int length][byte type][payload][int crc32(type + payload)]
+ *
+ * The source size and modification time identify the file the edits apply
+ * to; a journal whose source has since been replaced or rewritten is not
+ * replayed (see {@link Contents#matchesSource()}).
+ *
+ * A torn or corrupt tail (crash mid-write) is detected by the length/CRC
+ * check and silently discarded on read.
+ *
+ * Durability: records are buffered and fsync'ed in batches, either when
+ * {@link Constants#JOURNAL_SYNC_BATCH_SIZE} records are pending or every
+ * {@link Constants#JOURNAL_SYNC_INTERVAL_MS} milliseconds, whichever is first.
+ *
+ * Clean shutdown deletes the journal; a journal that still exists on startup
+ * therefore indicates an unclean shutdown.
+ *
+ * @author Photo Editor Engineering Team
+ * @version 1.0.0
+ */
+public final class EditJournal implements Closeable {
+
+    public enum RecordType {
+        OPERATION, PATCH, UNDO, REDO, LUT
+    }
+
+    private static final int MAGIC = 0x554E4A31; // "UNJ1"
+    private static final int FORMAT_VERSION = 2;
+    private static final int RECORD_OVERHEAD = Integer.BYTES + 1 + Integer.BYTES;
+
+    private static final byte TAG_INT = 'I';
+    private static final byte TAG_LONG = 'J';
+    private static final byte TAG_DOUBLE = 'D';
+    private static final byte TAG_BOOLEAN = 'Z';
+    private static final byte TAG_STRING = 'S';
+
+    private static final ScheduledExecutorService SYNC_EXECUTOR =
+        Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "edit-journal-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+    private final Path journalPath;
+    private final FileOutputStream fileStream;
+    private final FileChannel channel;
+    private final DataOutputStream out;
+    private final ScheduledFuture<?> syncTask;
+    private int pendingRecords;
+    private boolean closed;
+
+    private EditJournal(Path journalPath, boolean append) throws IOException {
+        this.journalPath = journalPath;
+        this.fileStream = new FileOutputStream(journalPath.toFile(), append);
+        this.channel = fileStream.getChannel();
+        this.out = new DataOutputStream(new BufferedOutputStream(fileStream, 64 * 1024));
+        this.syncTask = SYNC_EXECUTOR.scheduleWithFixedDelay(this::syncQuietly,
+            Constants.JOURNAL_SYNC_INTERVAL_MS, Constants.JOURNAL_SYNC_INTERVAL_MS,
+            TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Start a new journal for a freshly opened (or just saved) image,
+     * replacing any old one.
+     *
+     * @param sourcePath Absolute path of the source image, which must exist
+     * @param width Source image width
+     * @param height Source image height
+     * @return Open journal
+     * @throws IOException if the journal cannot be created
+     */
+    public static EditJournal create(String sourcePath, int width, int height) throws IOException {
+        Objects.requireNonNull(sourcePath, "Source path cannot be null");
+
+        Path source = Paths.get(sourcePath);
+        long sourceSize = Files.size(source);
+        long sourceModified = Files.getLastModifiedTime(source).toMillis();
+        Path path = journalPathFor(sourcePath);
+        EditJournal journal = new EditJournal(path, false);
+        synchronized (journal) {
+            journal.out.writeInt(MAGIC);
+            journal.out.writeInt(FORMAT_VERSION);
+            journal.out.writeUTF(sourcePath);
+            journal.out.writeLong(sourceSize);
+            journal.out.writeLong(sourceModified);
+            journal.out.writeInt(width);
+            journal.out.writeInt(height);
+            journal.sync();
+        }
+        writeSessionMarker(path);
+
+        Logger.info("Edit journal started: " + path);
+        return journal;
+    }
+
+    /**
+     * Reopen a recovered journal for appending, discarding any torn tail.
+     *
+     * @param contents Journal contents previously returned by {@link #read(Path)}
+     * @return Open journal positioned after the last valid record
+     * @throws IOException if the journal cannot be reopened
+     */
+    public static EditJournal resume(Contents contents) throws IOException {
+        Objects.requireNonNull(contents, "Journal contents cannot be null");
+
+        try (FileChannel truncator = FileChannel.open(contents.getJournalPath(),
+                StandardOpenOption.WRITE)) {
+            truncator.truncate(contents.getValidLength());
+            truncator.force(true);
+        }
+
+        EditJournal journal = new EditJournal(contents.getJournalPath(), true);
+        writeSessionMarker(contents.getJournalPath());
+
+        Logger.info("Edit journal resumed: " + contents.getJournalPath());
+        return journal;
+    }
+
+    /**
+     * Get the journal location for a source image
+     */
+    public static Path journalPathFor(String sourcePath) {
+        return Paths.get(sourcePath + Constants.JOURNAL_EXTENSION);
+    }
+
+    /**
+     * Find the journal of a session that did not shut down cleanly
+     *
+     * @return Journal path, or empty if the last session closed cleanly
+     */
+    public static Optional<Path> findUncleanSession() {
+        Path marker = sessionMarkerPath();
+        if (!Files.isRegularFile(marker)) {
+            return Optional.empty();
+        }
+
+        try {
+            String content = new String(Files.readAllBytes(marker), StandardCharsets.UTF_8).trim();
+            Path journal = Paths.get(content);
+            if (!content.isEmpty() && Files.isRegularFile(journal)) {
+                return Optional.of(journal);
+            }
+            Files.deleteIfExists(marker);
+        } catch (IOException | RuntimeException e) {
+            Logger.warning("Unreadable session marker ignored: " + e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Discard a journal that will not be recovered
+     */
+    public static void discard(Path journalPath) {
+        try {
+            Files.deleteIfExists(journalPath);
+            Files.deleteIfExists(sessionMarkerPath());
+            Logger.info("Edit journal discarded: " + journalPath);
+        } catch (IOException e) {
+            Logger.warning("Failed to discard edit journal: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Append a replayable operation
+     */
+    public synchronized void appendOperation(Operation operation) throws IOException {
+        Objects.requireNonNull(operation, "Operation cannot be null");
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        DataOutputStream payload = new DataOutputStream(bytes);
+        writeOperation(payload, operation);
+        writeRecord(RecordType.OPERATION, bytes.toByteArray());
+    }
+
+    /**
+     * Append a non-replayable operation as a pixel patch of the changed region.
+     *
+     * @param operation Operation that produced the patch
+     * @param x Left edge of the changed region
+     * @param y Top edge of the changed region
+     * @param width Region width
+     * @param height Region height
+     * @param argb Region pixels, row-major, {@code width * height} entries
+     */
+    public synchronized void appendPatch(Operation operation, int x, int y,
+                                         int width, int height, int[] argb) throws IOException {
+        Objects.requireNonNull(operation, "Operation cannot be null");
+        Objects.requireNonNull(argb, "Patch pixels cannot be null");
+        if (argb.length < width * height) {
+            throw new IllegalArgumentException("Patch pixel array is smaller than its region");
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + width * height * 4);
+        DataOutputStream payload = new DataOutputStream(bytes);
+        writeOperation(payload, operation);
+        payload.writeInt(x);
+        payload.writeInt(y);
+        payload.writeInt(width);
+        payload.writeInt(height);
+        for (int i = 0; i < width * height; i++) {
+            payload.writeInt(argb[i]);
+        }
+        writeRecord(RecordType.PATCH, bytes.toByteArray());
+    }
+
+    /**
+     * Append a 3D LUT operation together with the lattice it was applied with
+     */
+    public synchronized void appendLut(Operation operation, ColorLut3D lut) throws IOException {
+        Objects.requireNonNull(operation, "Operation cannot be null");
+        Objects.requireNonNull(lut, "LUT cannot be null");
+
+        int[] nodes = lut.getNodes();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256 + nodes.length * 4);
+        DataOutputStream payload = new DataOutputStream(bytes);
+        writeOperation(payload, operation);
+        payload.writeUTF(lut.getTitle());
+        payload.writeInt(lut.getSize());
+        for (int node : nodes) {
+            payload.writeInt(node);
+        }
+        writeRecord(RecordType.LUT, bytes.toByteArray());
+    }
+
+    /**
+     * Append an undo marker
+     */
+    public synchronized void appendUndo() throws IOException {
+        writeRecord(RecordType.UNDO, new byte[0]);
+    }
+
+    /**
+     * Append a redo marker
+     */
+    public synchronized void appendRedo() throws IOException {
+        writeRecord(RecordType.REDO, new byte[0]);
+    }
+
+    /**
+     * Flush buffered records and force them to stable storage
+     */
+    public synchronized void sync() throws IOException {
+        if (closed) {
+            return;
+        }
+        out.flush();
+        channel.force(false);
+        pendingRecords = 0;
+    }
+
+    /**
+     * Close the journal after a clean shutdown, deleting it from disk
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        syncTask.cancel(false);
+        closed = true;
+        out.close();
+
+        Files.deleteIfExists(journalPath);
+        Files.deleteIfExists(sessionMarkerPath());
+        Logger.info("Edit journal closed cleanly: " + journalPath);
+    }
+
+    public Path getJournalPath() {
+        return journalPath;
+    }
+
+    /**
+     * Read all intact records from a journal.
+     *
+     * Reading stops at the first truncated or corrupt record, which is
+     * the expected state after a crash mid-write.
+     *
+     * @param journalPath Journal to read
+     * @return Parsed journal contents
+     * @throws IOException if the journal header is unreadable
+     */
+    public static Contents read(Path journalPath) throws IOException {
+        Objects.requireNonNull(journalPath, "Journal path cannot be null");
+        long fileSize = Files.size(journalPath);
+
+        try (InputStream stream = Files.newInputStream(journalPath);
+             CountingInputStream counter = new CountingInputStream(stream);
+             DataInputStream in = new DataInputStream(counter)) {
+
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not an edit journal: " + journalPath);
+            }
+            int version = in.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported edit journal version: " + version);
+            }
+            String sourcePath = in.readUTF();
+            long sourceSize = in.readLong();
+            long sourceModified = in.readLong();
+            int width = in.readInt();
+            int height = in.readInt();
+
+            List<Entry> entries = new ArrayList<>();
+            long validLength = counter.getCount();
+
+            while (true) {
+                Entry entry;
+                try {
+                    entry = readRecord(in, validLength, fileSize - validLength);
+                } catch (EOFException e) {
+                    break;
+                }
+                if (entry == null) {
+                    Logger.warning("Discarding corrupt edit journal tail at offset " + validLength);
+                    break;
+                }
+                entries.add(entry);
+                validLength = counter.getCount();
+            }
+
+            Logger.info(() -> String.format("Edit journal read: %d records from %s",
+                entries.size(), journalPath));
+            return new Contents(journalPath, sourcePath, sourceSize, sourceModified, width, height,
+                entries, validLength);
+        }
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private void writeRecord(RecordType type, byte[] payload) throws IOException {
+        if (closed) {
+            throw new IOException("Edit journal is closed");
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(type.ordinal());
+        crc.update(payload);
+
+        out.writeInt(payload.length);
+        out.writeByte(type.ordinal());
+        out.write(payload);
+        out.writeInt((int) crc.getValue());
+
+        if (++pendingRecords >= Constants.JOURNAL_SYNC_BATCH_SIZE) {
+            sync();
+        }
+    }
+
+    private void syncQuietly() {
+        synchronized (this) {
+            if (closed || pendingRecords == 0) {
+                return;
+            }
+            try {
+                sync();
+            } catch (IOException e) {
+                Logger.error(Constants.ERR_JOURNAL_FAILURE, e);
+            }
+        }
+    }
+
+    /**
+     * Read one record, or return null if it is corrupt
+     *
+     * @param offset Journal offset of the record
+     * @param remaining Bytes left in the journal from the start of the record
+     */
+    private static Entry readRecord(DataInputStream in, long offset, long remaining) throws IOException {
+        int length = in.readInt();
+        // Length, type and CRC frame the payload; a torn length word must not size the buffer
+        if (length < 0 || length > remaining - RECORD_OVERHEAD) {
+            return null;
+        }
+        int typeOrdinal = in.readUnsignedByte();
+        if (typeOrdinal >= RecordType.values().length) {
+            return null;
+        }
+        byte[] payload = new byte[length];
+        in.readFully(payload);
+        int storedCrc = in.readInt();
+
+        CRC32 crc = new CRC32();
+        crc.update(typeOrdinal);
+        crc.update(payload);
+        if ((int) crc.getValue() != storedCrc) {
+            return null;
+        }
+
+        RecordType type = RecordType.values()[typeOrdinal];
+        DataInputStream data = new DataInputStream(new ByteArrayInputStream(payload));
+        switch (type) {
+            case OPERATION:
+                return new Entry(offset, type, readOperation(data), 0, 0, 0, 0, null, null);
+            case PATCH: {
+                Operation operation = readOperation(data);
+                int x = data.readInt();
+                int y = data.readInt();
+                int width = data.readInt();
+                int height = data.readInt();
+                int[] argb = new int[width * height];
+                for (int i = 0; i < argb.length; i++) {
+                    argb[i] = data.readInt();
+                }
+                return new Entry(offset, type, operation, x, y, width, height, argb, null);
+            }
+            case LUT: {
+                Operation operation = readOperation(data);
+                String title = data.readUTF();
+                int size = data.readInt();
+                if (size < Constants.LUT3D_SIZE_MIN || size > Constants.LUT3D_SIZE_MAX) {
+                    return null;
+                }
+                int[] nodes = new int[size * size * size];
+                for (int i = 0; i < nodes.length; i++) {
+                    nodes[i] = data.readInt();
+                }
+                try {
+                    return new Entry(offset, type, operation, 0, 0, 0, 0, null,
+                        ColorLut3D.fromNodes(title, size, nodes));
+                } catch (ValidationException e) {
+                    return null;
+                }
+            }
+            default:
+                return new Entry(offset, type, null, 0, 0, 0, 0, null, null);
+        }
+    }
+
+    private static void writeOperation(DataOutputStream out, Operation operation) throws IOException {
+        out.writeUTF(operation.getType().name());
+        out.writeUTF(operation.getTimestamp() != null ? operation.getTimestamp().toString() : "");
+        out.writeLong(operation.getExecutionTimeMs());
+
+        Map<String, Object> parameters = operation.getParameters();
+        out.writeInt(parameters.size());
+        for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
+            out.writeUTF(parameter.getKey());
+            Object value = parameter.getValue();
+            if (value instanceof Integer) {
+                out.writeByte(TAG_INT);
+                out.writeInt((Integer) value);
+            } else if (value instanceof Long) {
+                out.writeByte(TAG_LONG);
+                out.writeLong((Long) value);
+            } else if (value instanceof Number) {
+                out.writeByte(TAG_DOUBLE);
+                out.writeDouble(((Number) value).doubleValue());
+            } else if (value instanceof Boolean) {
+                out.writeByte(TAG_BOOLEAN);
+                out.writeBoolean((Boolean) value);
+            } else {
+                out.writeByte(TAG_STRING);
+                out.writeUTF(String.valueOf(value));
+            }
+        }
+    }
+
+    private static Operation readOperation(DataInputStream in) throws IOException {
+        Operation.Builder builder = new Operation.Builder()
+            .type(Operation.Type.valueOf(in.readUTF()));
+        String timestamp = in.readUTF();
+        if (!timestamp.isEmpty()) {
+            builder.timestamp(LocalDateTime.parse(timestamp));
+        }
+        builder.executionTimeMs(in.readLong());
+
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            String key = in.readUTF();
+            byte tag = in.readByte();
+            switch (tag) {
+                case TAG_INT: builder.parameter(key, in.readInt()); break;
+                case TAG_LONG: builder.parameter(key, in.readLong()); break;
+                case TAG_DOUBLE: builder.parameter(key, in.readDouble()); break;
+                case TAG_BOOLEAN: builder.parameter(key, in.readBoolean()); break;
+                case TAG_STRING: builder.parameter(key, in.readUTF()); break;
+                default: throw new IOException("Unknown parameter tag: " + tag);
+            }
+        }
+        return builder.build();
+    }
+
+    private static Path sessionMarkerPath() {
+        return Paths.get(System.getProperty("user.home"),
+            Constants.SESSION_DIRECTORY, Constants.SESSION_MARKER_FILE);
+    }
+
+    private static void writeSessionMarker(Path journalPath) throws IOException {
+        Path marker = sessionMarkerPath();
+        Files.createDirectories(marker.getParent());
+        Files.write(marker, journalPath.toAbsolutePath().toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // ==================== Journal Contents ====================
+
+    /**
+     * Single journal record
+     */
+    public static final class Entry {
+        private final long offset;
+        private final RecordType type;
+        private final Operation operation;
+        private final int x;
+        private final int y;
+        private final int width;
+        private final int height;
+        private final int[] pixels;
+        private final ColorLut3D lut;
+
+        private Entry(long offset, RecordType type, Operation operation, int x, int y,
+                      int width, int height, int[] pixels, ColorLut3D lut) {
+            this.offset = offset;
+            this.type = type;
+            this.operation = operation;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+            this.pixels = pixels;
+            this.lut = lut;
+        }
+
+        public RecordType getType() { return type; }
+        public Operation getOperation() { return operation; }
+        public int getX() { return x; }
+        public int getY() { return y; }
+        public int getWidth() { return width; }
+        public int getHeight() { return height; }
+        public int[] getPixels() { return pixels; }
+        public ColorLut3D getLut() { return lut; }
+    }
+
+    /**
+     * Parsed journal with the byte length of its intact prefix
+     */
+    public static final class Contents {
+        private final Path journalPath;
+        private final String sourcePath;
+        private final long sourceSize;
+        private final long sourceModified;
+        private final int width;
+        private final int height;
+        private final List<Entry> entries;
+        private final long validLength;
+
+        private Contents(Path journalPath, String sourcePath, long sourceSize, long sourceModified,
+                         int width, int height, List<Entry> entries, long validLength) {
+            this.journalPath = journalPath;
+            this.sourcePath = sourcePath;
+            this.sourceSize = sourceSize;
+            this.sourceModified = sourceModified;
+            this.width = width;
+            this.height = height;
+            this.entries = Collections.unmodifiableList(entries);
+            this.validLength = validLength;
+        }
+
+        public Path getJournalPath() { return journalPath; }
+        public String getSourcePath() { return sourcePath; }
+        public long getSourceSize() { return sourceSize; }
+        public long getSourceModified() { return sourceModified; }
+        public int getWidth() { return width; }
+        public int getHeight() { return height; }
+        public List<Entry> getEntries() { return entries; }
+        public long getValidLength() { return validLength; }
+
+        /**
+         * The first {@code count} entries, with the valid length ending
+         * before the next one; resuming it drops every later record
+         */
+        public Contents prefix(int count) {
+            if (count >= entries.size()) {
+                return this;
+            }
+            return new Contents(journalPath, sourcePath, sourceSize, sourceModified, width, height,
+                entries.subList(0, count), entries.get(count).offset);
+        }
+
+        /**
+         * Whether the source file is still the one the journal was started on,
+         * by size and modification time
+         */
+        public boolean matchesSource() {
+            try {
+                Path source = Paths.get(sourcePath);
+                return Files.size(source) == sourceSize
+                    && Files.getLastModifiedTime(source).toMillis() == sourceModified;
+            } catch (IOException | RuntimeException e) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Tracks how many bytes have been consumed so the intact prefix is known
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(new BufferedInputStream(in));
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+}
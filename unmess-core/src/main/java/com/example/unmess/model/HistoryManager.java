@@ -2,6 +2,8 @@ package com.example.unmess.model;
 
 import com.example.unmess.core.Constants;
 import com.example.unmess.core.Logger;
+import com.example.unmess.engine.DirtyRegion;
+import com.example.unmess.jfr.HistoryEvent;
 
 import java.util.ArrayDeque;
 import java.util.Deque;
@@ -24,6 +26,7 @@ public class HistoryManager {
     private final Deque<ImageState> redoStack;
     private final int maxHistorySize;
     private long totalMemoryUsed;
+    private DirtyRegion lastTransitionRegion = DirtyRegion.EMPTY;
     
     /**
      * Create history manager with default capacity
@@ -60,6 +63,9 @@ public class HistoryManager {
     public synchronized void saveState(ImageState state) {
         Objects.requireNonNull(state, "State cannot be null");
         
+        HistoryEvent event = new HistoryEvent();
+        event.begin();
+        
         // Remove oldest state if at capacity
         if (undoStack.size() >= maxHistorySize) {
             ImageState removed = undoStack.removeFirst();
@@ -77,7 +83,9 @@ public class HistoryManager {
             Logger.debug("Cleared redo stack");
         }
         
-        Logger.debug(String.format("State saved. History size: %d, Memory: %.2f MB",
+        commitEvent(event, "save", state);
+        
+        Logger.debug(() -> String.format("State saved. History size: %d, Memory: %.2f MB",
             undoStack.size(), totalMemoryUsed / (1024.0 * 1024.0)));
     }
     
@@ -92,12 +100,17 @@ public class HistoryManager {
             return null;
         }
         
+        HistoryEvent event = new HistoryEvent();
+        event.begin();
+        
         ImageState currentState = undoStack.removeLast();
         redoStack.addLast(currentState);
         
         ImageState previousState = undoStack.isEmpty() ? null : undoStack.peekLast();
+        lastTransitionRegion = currentState.getDirtyRegion();
+        commitEvent(event, "undo", currentState);
         
-        Logger.info(String.format("Undo performed. Undo stack: %d, Redo stack: %d",
+        Logger.info(() -> String.format("Undo performed. Undo stack: %d, Redo stack: %d",
             undoStack.size(), redoStack.size()));
         
         return previousState;
@@ -114,15 +127,29 @@ public class HistoryManager {
             return null;
         }
         
+        HistoryEvent event = new HistoryEvent();
+        event.begin();
+        
         ImageState nextState = redoStack.removeLast();
         undoStack.addLast(nextState);
+        lastTransitionRegion = nextState.getDirtyRegion();
+        commitEvent(event, "redo", nextState);
         
-        Logger.info(String.format("Redo performed. Undo stack: %d, Redo stack: %d",
+        Logger.info(() -> String.format("Redo performed. Undo stack: %d, Redo stack: %d",
             undoStack.size(), redoStack.size()));
         
         return nextState;
     }
     
+    /**
+     * Get the region changed by the stack states crossed in the last undo or
+     * redo: the undone state's own change, or the redone state's change.
+     * Callers add the change of the state they were displaying.
+     */
+    public synchronized DirtyRegion getLastTransitionRegion() {
+        return lastTransitionRegion;
+    }
+    
     /**
      * Check if undo is available
      */
@@ -168,8 +195,9 @@ public class HistoryManager {
         undoStack.clear();
         redoStack.clear();
         totalMemoryUsed = 0;
+        lastTransitionRegion = DirtyRegion.EMPTY;
         
-        Logger.info(String.format("History cleared. Removed %d undo and %d redo states",
+        Logger.info(() -> String.format("History cleared. Removed %d undo and %d redo states",
             undoSize, redoSize));
     }
     
@@ -181,6 +209,23 @@ public class HistoryManager {
         totalMemoryUsed += add ? stateSize : -stateSize;
     }
     
+    /**
+     * End and commit a Flight Recorder event if recording is enabled.
+     * Caller must hold this manager's lock.
+     */
+    private void commitEvent(HistoryEvent event, String action, ImageState state) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.action = action;
+            event.width = state.getCurrentImage().getWidth();
+            event.height = state.getCurrentImage().getHeight();
+            event.undoDepth = undoStack.size();
+            event.redoDepth = redoStack.size();
+            event.memoryBytes = totalMemoryUsed;
+            event.commit();
+        }
+    }
+    
     /**
      * Get current history statistics
      */
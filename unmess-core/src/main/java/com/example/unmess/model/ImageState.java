@@ -0,0 +1,291 @@
+package com.example.unmess.model;
+
+import com.example.unmess.core.Constants;
+import com.example.unmess.core.Logger;
+import com.example.unmess.core.ValidationException;
+import com.example.unmess.core.Validator;
+import com.example.unmess.engine.DirtyRegion;
+import com.example.unmess.engine.EditResult;
+import com.example.unmess.engine.FloatRaster;
+import com.example.unmess.engine.Histogram;
+import com.example.unmess.engine.Raster;
+import com.example.unmess.jfr.ImageCloneEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Thread-safe immutable representation of image state.
+ * Maintains original image, current state, metadata, and operation history.
+ * Each state also records the region that changed relative to the state it
+ * was derived from, so the display can upload just that region; the pixels
+ * themselves are still copied in full. Images loaded from 16-bit files also keep their original
+ * in a {@link FloatRaster}, so previews can use the full depth. Committed
+ * operations run on the 8-bit current image, so only an unedited state
+ * exports at full depth.
+ * 
+ * Images held by a state are never modified, so a crop of the current
+ * image is kept as a view over the same pixel array instead of a copy:
+ * committing it is O(1) and the history entries share one buffer. Views
+ * that cover less than 1/{@value Constants#RASTER_VIEW_COMPACT_RATIO} of
+ * that buffer are compacted so a small crop does not pin a large parent,
+ * and {@link #compacted} does the same on demand (e.g. after saving).
+ * 
+ * Design Pattern: Immutable Object Pattern
+ * Thread Safety: All fields are final and defensive copies are made, except
+ * the histogram cache, which is computed lazily from the immutable current
+ * image and published through a volatile field
+ * 
+ * @author Photo Editor Engineering Team
+ * @version 2.0.0
+ */
+public final class ImageState {
+    
+    private final Raster currentImage;
+    private final Raster originalImage;
+    private final FloatRaster highPrecisionOriginal;
+    private final ImageMetadata metadata;
+    private final List<Operation> operationHistory;
+    private final DirtyRegion dirtyRegion;
+    private volatile Histogram histogram;
+    
+    /**
+     * Private constructor - use Builder pattern
+     */
+    private ImageState(Raster originalImage, FloatRaster highPrecisionOriginal, Raster currentImage,
+                      ImageMetadata metadata, List<Operation> operationHistory,
+                      DirtyRegion dirtyRegion) {
+        this.originalImage = Objects.requireNonNull(originalImage, "Original image cannot be null");
+        this.highPrecisionOriginal = highPrecisionOriginal;
+        this.currentImage = Objects.requireNonNull(currentImage, "Current image cannot be null");
+        this.metadata = Objects.requireNonNull(metadata, "Metadata cannot be null");
+        this.operationHistory = Collections.unmodifiableList(new ArrayList<>(operationHistory));
+        this.dirtyRegion = Objects.requireNonNull(dirtyRegion, "Dirty region cannot be null");
+    }
+    
+    /**
+     * Create initial image state from an image
+     */
+    public static ImageState fromImage(Raster image, String sourcePath) throws ValidationException {
+        return fromImage(image, null, sourcePath);
+    }
+    
+    /**
+     * Create initial image state from an image and its high-precision source
+     * 
+     * @param image 8-bit image (copied)
+     * @param highPrecision Full-depth pixels of the same image (shared, not
+     *                      modified), or null for 8-bit sources
+     */
+    public static ImageState fromImage(Raster image, FloatRaster highPrecision, String sourcePath)
+            throws ValidationException {
+        Validator.requireNonNull(image, "image");
+        Validator.validateImageDimensions(image.getWidth(), image.getHeight());
+        
+        Logger.info("Creating ImageState from image: " + sourcePath);
+        
+        Raster cloned = cloneImage(image);
+        ImageMetadata metadata = new ImageMetadata.Builder()
+            .width(image.getWidth())
+            .height(image.getHeight())
+            .sourcePath(sourcePath)
+            .sizeBytes(calculateImageSize(image))
+            .build();
+        
+        return new ImageState(cloned, highPrecision, cloneImage(cloned), metadata, new ArrayList<>(),
+            DirtyRegion.full(image.getWidth(), image.getHeight()));
+    }
+    
+    /**
+     * Get current image (direct reference for display)
+     */
+    public Raster getCurrentImage() {
+        return currentImage;
+    }
+    
+    /**
+     * Get original image (cloned for processing)
+     */
+    public Raster getOriginalImage() {
+        return cloneImage(originalImage);
+    }
+    
+    /**
+     * Get original image without copying. The raster is shared and must be
+     * treated as read-only; engine operations never modify their inputs.
+     */
+    public Raster getOriginalImageReadOnly() {
+        return originalImage;
+    }
+    
+    /**
+     * Get the full-depth original without copying, or null if the source
+     * had 8 bits per channel. The raster is shared and must be treated as
+     * read-only.
+     */
+    public FloatRaster getHighPrecisionOriginal() {
+        return highPrecisionOriginal;
+    }
+    
+    /**
+     * Get metadata (immutable)
+     */
+    public ImageMetadata getMetadata() {
+        return metadata;
+    }
+    
+    /**
+     * Get operation history (immutable)
+     */
+    public List<Operation> getOperationHistory() {
+        return operationHistory;
+    }
+    
+    /**
+     * Get region of the current image that changed relative to the previous state
+     */
+    public DirtyRegion getDirtyRegion() {
+        return dirtyRegion;
+    }
+    
+    /**
+     * Get histogram of the current image, computed on first use and cached
+     * for the lifetime of this state. Repeated auto commands on the same
+     * state therefore scan the pixels only once.
+     */
+    public Histogram getHistogram() {
+        Histogram cached = histogram;
+        if (cached == null) {
+            // Racing threads compute identical histograms; either one may win
+            cached = Histogram.of(currentImage);
+            histogram = cached;
+        }
+        return cached;
+    }
+    
+    /**
+     * Create new state with updated image, treating every pixel as changed
+     */
+    public ImageState withImage(Raster newImage, Operation operation) {
+        return withImage(newImage, operation,
+            DirtyRegion.full(newImage.getWidth(), newImage.getHeight()));
+    }
+    
+    /**
+     * Create new state from an engine edit, keeping its dirty region
+     */
+    public ImageState withEdit(EditResult edit, Operation operation) {
+        return withImage(edit.getImage(), operation, edit.getDirtyRegion());
+    }
+    
+    /**
+     * Create new state with updated image
+     * 
+     * @param newImage New current image; copied, unless it is a view of this
+     *                 state's current image (see {@link #shareOrClone})
+     * @param operation Operation that produced it
+     * @param dirtyRegion Pixels that differ from this state's current image
+     */
+    public ImageState withImage(Raster newImage, Operation operation, DirtyRegion dirtyRegion) {
+        Logger.debug(() -> "Creating new ImageState with operation: " + operation.getType());
+        
+        List<Operation> newHistory = new ArrayList<>(operationHistory);
+        newHistory.add(operation);
+        
+        return new ImageState(
+            originalImage,
+            highPrecisionOriginal,
+            shareOrClone(newImage),
+            metadata.withModification(),
+            newHistory,
+            dirtyRegion.clip(newImage.getWidth(), newImage.getHeight())
+        );
+    }
+    
+    /**
+     * Reset to original image
+     */
+    public ImageState resetToOriginal() {
+        Logger.info("Resetting ImageState to original");
+        return new ImageState(
+            originalImage,
+            highPrecisionOriginal,
+            cloneImage(originalImage),
+            metadata,
+            new ArrayList<>(),
+            DirtyRegion.full(originalImage.getWidth(), originalImage.getHeight())
+        );
+    }
+    
+    /**
+     * Same state with a current image that owns exactly its pixels, so a
+     * cropped view no longer keeps its parent's buffer reachable
+     * 
+     * @return This state if the current image is already dense
+     */
+    public ImageState compacted() {
+        if (currentImage.isDense()) {
+            return this;
+        }
+        Logger.debug(() -> "Compacting " + currentImage + " from a "
+            + currentImage.getBackingSizeBytes() + " byte buffer");
+        ImageState compacted = new ImageState(originalImage, highPrecisionOriginal, cloneImage(currentImage),
+            metadata, operationHistory, dirtyRegion);
+        compacted.histogram = histogram;
+        return compacted;
+    }
+    
+    /**
+     * Creates a deep copy of an image using efficient pixel transfer.
+     * 
+     * Performance: O(width * height), one arraycopy per row
+     * Memory: Allocates new Raster of same dimensions
+     * 
+     * @param image Source image to clone
+     * @return Deep copy of the image
+     * @throws NullPointerException if image is null
+     */
+    public static Raster cloneImage(Raster image) {
+        Objects.requireNonNull(image, "Image to clone cannot be null");
+        
+        ImageCloneEvent event = new ImageCloneEvent();
+        event.begin();
+        Raster copy = image.copy();
+        event.end();
+        if (event.shouldCommit()) {
+            event.width = image.getWidth();
+            event.height = image.getHeight();
+            event.bytes = image.getSizeBytes();
+            event.commit();
+        }
+        return copy;
+    }
+    
+    /**
+     * Keep a view of the current image without copying (state images are
+     * never modified), unless it covers too little of the shared buffer;
+     * copy anything else, which the caller may go on to modify or release
+     */
+    private Raster shareOrClone(Raster image) {
+        if (image.getPixels() == currentImage.getPixels() && image.getSizeBytes()
+                * Constants.RASTER_VIEW_COMPACT_RATIO >= image.getBackingSizeBytes()) {
+            return image;
+        }
+        return cloneImage(image);
+    }
+    
+    /**
+     * Calculate approximate memory size of image
+     */
+    private static long calculateImageSize(Raster image) {
+        return image.getSizeBytes(); // 4 bytes per pixel (ARGB)
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("ImageState[%s, operations=%d]", 
+            metadata, operationHistory.size());
+    }
+}
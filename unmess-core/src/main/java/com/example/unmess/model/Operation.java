@@ -17,9 +17,10 @@ public final class Operation {
     
     public enum Type {
         BRIGHTNESS, CONTRAST, SATURATION, BLUR, SHARPEN,
-        GRAYSCALE, SEPIA, INVERT,
+        GRAYSCALE, SEPIA, INVERT, NOISE_REDUCTION, MEDIAN,
+        AUTO_TONE, AUTO_CONTRAST, AUTO_COLOR, LUT_3D,
         ROTATE_CW, ROTATE_CCW, FLIP_H, FLIP_V,
-        CROP, RESIZE
+        CROP, RESIZE, ROTATE
     }
     
     private final Type type;
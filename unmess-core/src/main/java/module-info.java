@@ -0,0 +1,11 @@
+module com.example.unmess.core {
+    requires java.management;
+    requires jdk.management;
+    requires transitive jdk.jfr;
+    requires static jdk.incubator.vector;
+
+    exports com.example.unmess.core;
+    exports com.example.unmess.engine;
+    exports com.example.unmess.jfr;
+    exports com.example.unmess.model;
+}
@@ -0,0 +1,144 @@
+package com.example.unmess.engine;
+
+import com.example.unmess.core.ValidationException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntUnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Fixed-point 8-bit point operations against the double formulas they replace.
+ *
+ * Every RGB color is processed (a raster holding the whole cube in row-major
+ * order, with varying alpha) and each channel must land within 1 level of
+ * the same formula evaluated in doubles and rounded once. Alpha must pass
+ * through unchanged. The row width is prime, so rows end in a partial
+ * vector and both the SIMD and the scalar kernel paths are checked.
+ *
+ * @author Photo Editor Engineering Team
+ * @version 1.0.0
+ */
+class FixedPointKernelsTest {
+
+    private static final int COLORS = 1 << 24;
+    private static final int WIDTH = 4093;
+    private static final int HEIGHT = (COLORS + WIDTH - 1) / WIDTH;
+    private static final int MAX_DEVIATION = 1;
+
+    private static Raster cube;
+
+    @BeforeAll
+    static void createCube() {
+        cube = new Raster(WIDTH, HEIGHT);
+        for (int i = 0; i < WIDTH * HEIGHT; i++) {
+            int rgb = i & (COLORS - 1);
+            int alpha = (i * 31) & 0xFF;
+            cube.setArgb(i % WIDTH, i / WIDTH, (alpha << 24) | rgb);
+        }
+    }
+
+    @AfterAll
+    static void releaseCube() {
+        cube = null;
+    }
+
+    @Test
+    void brightnessMatchesDoubleFormula() throws ValidationException {
+        for (double factor : new double[] {-1.0, -0.37, 0.0, 0.25, 1.0}) {
+            assertWithinOneLevel("brightness " + factor, ImageProcessorV2.adjustBrightness(cube, factor),
+                channels(v -> v + factor));
+        }
+    }
+
+    @Test
+    void contrastMatchesDoubleFormula() throws ValidationException {
+        for (double factor : new double[] {-1.0, -0.5, 0.0, 0.3, 1.0}) {
+            assertWithinOneLevel("contrast " + factor, ImageProcessorV2.adjustContrast(cube, factor),
+                channels(v -> (v - 0.5) * (1.0 + factor) + 0.5));
+        }
+    }
+
+    @Test
+    void saturationMatchesDoubleFormula() throws ValidationException {
+        for (double factor : new double[] {-1.0, -0.4, 0.0, 0.6, 1.0}) {
+            assertWithinOneLevel("saturation " + factor, ImageProcessorV2.adjustSaturation(cube, factor), argb -> {
+                double r = PixelOperations.normalize(PixelOperations.getRed(argb));
+                double g = PixelOperations.normalize(PixelOperations.getGreen(argb));
+                double b = PixelOperations.normalize(PixelOperations.getBlue(argb));
+                double gray = PixelOperations.toGrayscale(r, g, b);
+                return rgb(gray + (r - gray) * (1 + factor),
+                           gray + (g - gray) * (1 + factor),
+                           gray + (b - gray) * (1 + factor));
+            });
+        }
+    }
+
+    @Test
+    void sepiaMatchesDoubleFormula() throws ValidationException {
+        assertWithinOneLevel("sepia", ImageProcessorV2.sepiaTone(cube), argb -> {
+            double r = PixelOperations.normalize(PixelOperations.getRed(argb));
+            double g = PixelOperations.normalize(PixelOperations.getGreen(argb));
+            double b = PixelOperations.normalize(PixelOperations.getBlue(argb));
+            return rgb(0.393 * r + 0.769 * g + 0.189 * b,
+                       0.349 * r + 0.686 * g + 0.168 * b,
+                       0.272 * r + 0.534 * g + 0.131 * b);
+        });
+    }
+
+    @Test
+    void grayscaleMatchesDoubleFormula() throws ValidationException {
+        assertWithinOneLevel("grayscale", ImageProcessorV2.toGrayscale(cube), argb -> {
+            double gray = PixelOperations.toGrayscale(
+                PixelOperations.normalize(PixelOperations.getRed(argb)),
+                PixelOperations.normalize(PixelOperations.getGreen(argb)),
+                PixelOperations.normalize(PixelOperations.getBlue(argb)));
+            return rgb(gray, gray, gray);
+        });
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * Reference for a formula applied to each normalized channel alike
+     */
+    private static IntUnaryOperator channels(DoubleUnaryOperator formula) {
+        return argb -> rgb(
+            formula.applyAsDouble(PixelOperations.normalize(PixelOperations.getRed(argb))),
+            formula.applyAsDouble(PixelOperations.normalize(PixelOperations.getGreen(argb))),
+            formula.applyAsDouble(PixelOperations.normalize(PixelOperations.getBlue(argb))));
+    }
+
+    private static int rgb(double r, double g, double b) {
+        return PixelOperations.toArgb(0, PixelOperations.denormalize(r),
+            PixelOperations.denormalize(g), PixelOperations.denormalize(b));
+    }
+
+    private static void assertWithinOneLevel(String operation, Raster result, IntUnaryOperator reference) {
+        try {
+            for (int y = 0; y < HEIGHT; y++) {
+                for (int x = 0; x < WIDTH; x++) {
+                    int source = cube.getArgb(x, y);
+                    int actual = result.getArgb(x, y);
+                    int expected = reference.applyAsInt(source);
+                    if ((actual >>> 24) != (source >>> 24)
+                            || deviation(actual, expected, 16) > MAX_DEVIATION
+                            || deviation(actual, expected, 8) > MAX_DEVIATION
+                            || deviation(actual, expected, 0) > MAX_DEVIATION) {
+                        fail(String.format("%s of %08X: got %08X, double formula gives %06X",
+                            operation, source, actual, expected & 0xFFFFFF));
+                    }
+                }
+            }
+        } finally {
+            RasterPool.release(result);
+        }
+    }
+
+    private static int deviation(int a, int b, int shift) {
+        return Math.abs(((a >> shift) & 0xFF) - ((b >> shift) & 0xFF));
+    }
+}